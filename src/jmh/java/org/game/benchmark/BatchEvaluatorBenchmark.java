@@ -0,0 +1,69 @@
+package org.game.benchmark;
+
+import org.game.BatchEvaluator;
+import org.game.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/** Per-position cost of classifying a batch of random 3x3 positions. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchEvaluatorBenchmark {
+    private static final int POSITIONS = 4096;
+
+    private final BatchEvaluator evaluator = new BatchEvaluator();
+    private final Board board = new Board();
+    private final int[] xMasks = new int[POSITIONS];
+    private final int[] oMasks = new int[POSITIONS];
+    private final byte[] results = new byte[POSITIONS];
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < POSITIONS; i++) {
+            int x = random.nextInt(512);
+            xMasks[i] = x;
+            oMasks[i] = random.nextInt(512) & ~x;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public byte[] batch() {
+        evaluator.evaluate(xMasks, oMasks, results, POSITIONS);
+        return results;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public byte[] perBoard() {
+        for (int i = 0; i < POSITIONS; i++) {
+            board.clear();
+            for (int cell = 0; cell < 9; cell++) {
+                if ((xMasks[i] & 1 << cell) != 0) {
+                    board.place(cell / 3, cell % 3, 'X');
+                } else if ((oMasks[i] & 1 << cell) != 0) {
+                    board.place(cell / 3, cell % 3, 'O');
+                }
+            }
+            results[i] = (byte) (board.hasThreeInRow('X') ? 1 : board.hasThreeInRow('O') ? 2 : board.isFull() ? 3 : 0);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,66 @@
+package org.game.benchmark;
+
+import org.game.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    private Board board;
+    private Board midGame;
+    private int cell;
+
+    @Setup
+    public void setUp() {
+        board = new Board();
+        midGame = new Board();
+        midGame.place(0, 0, 'X');
+        midGame.place(1, 1, 'O');
+        midGame.place(0, 2, 'X');
+        midGame.place(0, 1, 'O');
+    }
+
+    // Fills the board cell by cell and clears it every ninth call, so each place hits an empty
+    // cell; placing a marker that is already there returns early and would measure nothing.
+    @Benchmark
+    public Board place() {
+        int c = cell;
+        cell = c == 8 ? 0 : c + 1;
+        if (c == 0) {
+            board.clear();
+        }
+        board.place(c / 3, c % 3, (c & 1) == 0 ? 'X' : 'O');
+        return board;
+    }
+
+    @Benchmark
+    public boolean hasThreeInRow() {
+        return midGame.hasThreeInRow('X');
+    }
+
+    @Benchmark
+    public boolean isFull() {
+        return midGame.isFull();
+    }
+
+    @Benchmark
+    public Board clear() {
+        board.clear();
+        return board;
+    }
+}
@@ -0,0 +1,83 @@
+package org.game.benchmark;
+
+import org.game.Board;
+import org.game.GameEngine;
+import org.game.GameStatus;
+import org.game.RandomStrategy;
+import org.game.TicTacToe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One random game per invocation, played through the console-printing
+ * {@link TicTacToe} API (output discarded) and through the headless
+ * {@link GameEngine}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    private final PrintStream originalOut = System.out;
+    private TicTacToe game;
+    private GameEngine engine;
+    private RandomStrategy strategy;
+
+    @Setup
+    public void setUp() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        game = new TicTacToe();
+        engine = new GameEngine();
+        strategy = new RandomStrategy(new SplittableRandom(42));
+    }
+
+    @TearDown
+    public void tearDown() {
+        game.closeScanner();
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public boolean randomGameTicTacToe() {
+        game.reset();
+        Board board = game.getBoard();
+        while (true) {
+            int cell = strategy.chooseMove(board, ' ');
+            game.makeMove(cell / 3, cell % 3);
+            if (game.hasWinner()) {
+                return true;
+            }
+            if (board.isFull()) {
+                return false;
+            }
+            game.switchCurrentPlayer();
+        }
+    }
+
+    @Benchmark
+    public GameStatus randomGameEngine() {
+        engine.reset();
+        Board board = engine.getBoard();
+        while (engine.getStatus() == GameStatus.IN_PROGRESS) {
+            int cell = strategy.chooseMove(board, engine.getCurrentMarker());
+            engine.move(cell / 3, cell % 3);
+        }
+        return engine.getStatus();
+    }
+}
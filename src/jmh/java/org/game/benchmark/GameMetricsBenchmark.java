@@ -0,0 +1,78 @@
+package org.game.benchmark;
+
+import org.game.Board;
+import org.game.BoardRenderer;
+import org.game.RandomStrategy;
+import org.game.TicTacToe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of {@link org.game.GameMetrics}: the same random game through the
+ * instrumented {@link TicTacToe} API in a JVM with metrics off and in one with
+ * {@code -Dorg.game.metrics=true}. Several threads play at once, so contention
+ * on the shared metrics shows up in the difference.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+public class GameMetricsBenchmark {
+    private TicTacToe game;
+    private RandomStrategy strategy;
+
+    @Setup
+    public void setUp() {
+        game = new TicTacToe();
+        game.setRenderer(new BoardRenderer(BoardRenderer.NO_OP));
+        strategy = new RandomStrategy(new SplittableRandom(42));
+    }
+
+    @TearDown
+    public void tearDown() {
+        game.closeScanner();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public boolean metricsOff() {
+        return randomGame();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dorg.game.metrics=true")
+    public boolean metricsOn() {
+        return randomGame();
+    }
+
+    private boolean randomGame() {
+        game.reset();
+        Board board = game.getBoard();
+        while (true) {
+            int cell = strategy.chooseMove(board, ' ');
+            game.makeMove(cell / 3, cell % 3);
+            if (game.hasWinner()) {
+                return true;
+            }
+            if (board.isFull()) {
+                return false;
+            }
+            game.switchCurrentPlayer();
+        }
+    }
+}
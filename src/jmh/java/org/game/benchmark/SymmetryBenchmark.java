@@ -0,0 +1,87 @@
+package org.game.benchmark;
+
+import org.game.Symmetry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-position cost of canonicalizing random positions, against moving every
+ * occupied cell through the cell permutations one by one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SymmetryBenchmark {
+    private static final int POSITIONS = 4096;
+
+    @Param({"3", "4", "5"})
+    private int size;
+
+    private Symmetry symmetry;
+    private int cells;
+    private final int[] xMasks = new int[POSITIONS];
+    private final int[] oMasks = new int[POSITIONS];
+
+    @Setup
+    public void setUp() {
+        symmetry = Symmetry.forSize(size);
+        cells = size * size;
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < POSITIONS; i++) {
+            for (int c = 0; c < cells; c++) {
+                int occupant = random.nextInt(3);
+                xMasks[i] |= occupant == 1 ? 1 << c : 0;
+                oMasks[i] |= occupant == 2 ? 1 << c : 0;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public long canonicalize() {
+        long sum = 0;
+        for (int i = 0; i < POSITIONS; i++) {
+            sum += symmetry.canonicalize(xMasks[i], oMasks[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public long perCell() {
+        long sum = 0;
+        for (int i = 0; i < POSITIONS; i++) {
+            long best = Long.MAX_VALUE;
+            for (int t = 0; t < Symmetry.TRANSFORMS; t++) {
+                long x = 0;
+                long o = 0;
+                for (int c = 0; c < cells; c++) {
+                    if ((xMasks[i] & 1 << c) != 0) {
+                        x |= 1L << symmetry.toCanonical(t, c);
+                    } else if ((oMasks[i] & 1 << c) != 0) {
+                        o |= 1L << symmetry.toCanonical(t, c);
+                    }
+                }
+                best = Math.min(best, (x << cells | o) << 3 | t);
+            }
+            sum += best;
+        }
+        return sum;
+    }
+}
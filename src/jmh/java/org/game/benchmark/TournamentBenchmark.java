@@ -0,0 +1,42 @@
+package org.game.benchmark;
+
+import org.game.RandomStrategy;
+import org.game.Tournament;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-game cost of a round-robin round between two random players on the
+ * common pool. A million games a minute needs 60,000 ns/op or less.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TournamentBenchmark {
+    private static final int GAMES = 100_000;
+
+    private final Tournament tournament = new Tournament(List.of(
+            new Tournament.Entrant("a", RandomStrategy::new),
+            new Tournament.Entrant("b", RandomStrategy::new)));
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public Tournament roundRobin() {
+        tournament.run(Tournament.Schedule.ROUND_ROBIN, 1, GAMES);
+        return tournament;
+    }
+}
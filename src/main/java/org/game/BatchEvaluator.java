@@ -0,0 +1,124 @@
+package org.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classifies many positions per call without building {@link Board}s. Positions
+ * are given as X and O cell masks in the {@link Board#getXMask()} layout, so
+ * boards of at most 32 cells are supported and masks must not set bits beyond
+ * the board's cells; results are {@link GameStatus}
+ * ordinals written into a caller-supplied array.
+ * <p>
+ * Boards of up to 16 cells look wins up in a precomputed bit table; larger ones
+ * test every winning line with a branch-free compare. A position where both
+ * sides have a line (unreachable in play) reports {@link GameStatus#X_WON}.
+ */
+public class BatchEvaluator {
+    private static final byte IN_PROGRESS = (byte) GameStatus.IN_PROGRESS.ordinal();
+    private static final byte X_WON = (byte) GameStatus.X_WON.ordinal();
+    private static final byte O_WON = (byte) GameStatus.O_WON.ordinal();
+    private static final byte DRAW = (byte) GameStatus.DRAW.ordinal();
+    private static final int TABLE_MAX_CELLS = 16;
+
+    private final int fullMask;
+    private final int[] lines;
+    // Bit m is set when mask m contains a winning line; null for boards over TABLE_MAX_CELLS.
+    private final long[] winTable;
+
+    public BatchEvaluator() {
+        this(3, 3);
+    }
+
+    public BatchEvaluator(int size, int winLength) {
+        if (size < 1 || size * size > 32) {
+            throw new IllegalArgumentException("Batch evaluation supports boards of 1 to 32 cells: " + size);
+        }
+        if (winLength < 1 || winLength > size) {
+            throw new IllegalArgumentException("Win length must be between 1 and " + size + ": " + winLength);
+        }
+        int cells = size * size;
+        fullMask = cells == 32 ? -1 : (1 << cells) - 1;
+        lines = lineMasks(size, winLength);
+        if (cells <= TABLE_MAX_CELLS) {
+            winTable = new long[Math.max(1, (1 << cells) >>> 6)];
+            for (int mask = 0; mask < 1 << cells; mask++) {
+                if (containsLine(mask)) {
+                    winTable[mask >>> 6] |= 1L << mask;
+                }
+            }
+        } else {
+            winTable = null;
+        }
+    }
+
+    private static int[] lineMasks(int size, int winLength) {
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        List<Integer> masks = new ArrayList<>();
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                for (int[] d : directions) {
+                    int endX = x + d[0] * (winLength - 1);
+                    int endY = y + d[1] * (winLength - 1);
+                    if (endX < 0 || endX >= size || endY < 0 || endY >= size) {
+                        continue;
+                    }
+                    int mask = 0;
+                    for (int i = 0; i < winLength; i++) {
+                        mask |= 1 << ((x + d[0] * i) * size + y + d[1] * i);
+                    }
+                    masks.add(mask);
+                }
+            }
+        }
+        return masks.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private boolean containsLine(int mask) {
+        for (int line : lines) {
+            if ((mask & line) == line) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int wins(int mask) {
+        if (winTable != null) {
+            return (int) (winTable[mask >>> 6] >>> mask) & 1;
+        }
+        int found = 0;
+        for (int line : lines) {
+            found |= (mask & line) == line ? 1 : 0;
+        }
+        return found;
+    }
+
+    /**
+     * Writes the status of positions {@code 0..count-1}, given by
+     * {@code xMasks[i]} and {@code oMasks[i]}, into {@code results[i]} as a
+     * {@link GameStatus} ordinal.
+     */
+    public void evaluate(int[] xMasks, int[] oMasks, byte[] results, int count) {
+        if (xMasks.length < count || oMasks.length < count || results.length < count) {
+            throw new IllegalArgumentException("Arrays must hold at least " + count + " positions");
+        }
+        for (int i = 0; i < count; i++) {
+            results[i] = status(xMasks[i], oMasks[i]);
+        }
+    }
+
+    /** Status of a single position; prefer the array form for bulk work. */
+    public GameStatus evaluate(int xMask, int oMask) {
+        return GameStatus.values()[status(xMask, oMask)];
+    }
+
+    // Each flag is 0 or 1, so exactly one term of the sum survives.
+    private byte status(int x, int o) {
+        int xWon = wins(x);
+        int oWon = wins(o) & ~xWon;
+        int full = (x | o) == fullMask ? 1 : 0;
+        int draw = full & ~(xWon | oWon);
+        return (byte) (xWon * X_WON + oWon * O_WON + draw * DRAW + (1 - (xWon | oWon | draw)) * IN_PROGRESS);
+    }
+}
@@ -1,67 +1,489 @@
 package org.game;
 
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class Board {
-    private char[][] cells;
+    // 3x3 win masks over cell bits x * 3 + y, used by the 3x3-only tooling (solver, symmetry).
+    private static final int[] WIN_MASKS = {
+            0b000_000_111, 0b000_111_000, 0b111_000_000, // rows
+            0b001_001_001, 0b010_010_010, 0b100_100_100, // columns
+            0b100_010_001, 0b001_010_100                 // diagonals
+    };
+    static final int FULL_MASK = 0b111_111_111;
+    // CELL_WIN_MASKS[c] holds the WIN_MASKS through cell c: the classic board's fast path in apply().
+    private static final int[][] CELL_WIN_MASKS = new int[9][];
+
+    static {
+        for (int cell = 0; cell < 9; cell++) {
+            int count = 0;
+            int[] through = new int[4];
+            for (int mask : WIN_MASKS) {
+                if ((mask & 1 << cell) != 0) {
+                    through[count++] = mask;
+                }
+            }
+            CELL_WIN_MASKS[cell] = Arrays.copyOf(through, count);
+        }
+    }
+
+    // Row, column, diagonal and anti-diagonal steps as {dx, dy}.
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+    private static final ConcurrentHashMap<Integer, int[]> MOVE_ORDER = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final int winLength;
+    // 3x3 with three in a row, where lines are checked against WIN_MASKS instead of walked.
+    private final boolean classic;
+    // Cell (x, y) is bit x * size + y; one bitboard per player.
+    private final long[] xBits;
+    private final long[] oBits;
+    private int filled;
+    private boolean xWon;
+    private boolean oWon;
+    private final Zobrist zobrist;
+    private final int[] moveOrder;
+    // hashes[t] is the Zobrist hash of this position after symmetry transform t; hashes[0] is the plain hash.
+    private final long[] hashes = new long[Zobrist.TRANSFORMS];
+    // Placements for undo/redo, packed by entry(); [0, undoCount) can be undone, [undoCount, historyEnd) redone.
+    private final int[] history;
+    private int undoCount;
+    private int historyEnd;
 
     public Board() {
-        cells = new char[3][3];
+        this(3, 3);
+    }
+
+    public Board(int size, int winLength) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Board size must be positive: " + size);
+        }
+        if (winLength < 1 || winLength > size) {
+            throw new IllegalArgumentException("Win length must be between 1 and " + size + ": " + winLength);
+        }
+        this.size = size;
+        this.winLength = winLength;
+        classic = size == 3 && winLength == 3;
+        int words = (size * size + 63) >>> 6;
+        xBits = new long[words];
+        oBits = new long[words];
+        zobrist = Zobrist.forSize(size);
+        int[] order = MOVE_ORDER.get(size);
+        if (order == null) {
+            MOVE_ORDER.putIfAbsent(size, moveOrder(size));
+            order = MOVE_ORDER.get(size);
+        }
+        moveOrder = order;
+        history = new int[size * size];
         clear();
     }
 
+    /** An independent board with the same position, hashes and undo/redo history. */
+    public Board copy() {
+        Board copy = new Board(size, winLength);
+        System.arraycopy(xBits, 0, copy.xBits, 0, xBits.length);
+        System.arraycopy(oBits, 0, copy.oBits, 0, oBits.length);
+        System.arraycopy(hashes, 0, copy.hashes, 0, hashes.length);
+        System.arraycopy(history, 0, copy.history, 0, history.length);
+        copy.filled = filled;
+        copy.xWon = xWon;
+        copy.oWon = oWon;
+        copy.undoCount = undoCount;
+        copy.historyEnd = historyEnd;
+        return copy;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    private int index(int x, int y) {
+        return Objects.checkIndex(x, size) * size + Objects.checkIndex(y, size);
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
     public boolean isCellEmpty(int x, int y) {
-        return cells[x][y] == ' ';
+        int index = index(x, y);
+        return !isSet(xBits, index) && !isSet(oBits, index);
     }
 
+    /**
+     * Puts {@code marker} on (x, y), replacing any other marker there. The placement
+     * can be reverted with {@link #undo()} and discards anything {@link #redo()}
+     * could have replayed.
+     */
     public void place(int x, int y, char marker) {
-        cells[x][y] = marker;
+        int index = index(x, y);
+        int player;
+        if (marker == 'X') {
+            player = 0;
+        } else if (marker == 'O') {
+            player = 1;
+        } else {
+            throw new IllegalArgumentException("Unsupported marker: " + marker);
+        }
+        if (isSet(player == 0 ? xBits : oBits, index)) {
+            return;
+        }
+        push(apply(index, player));
     }
 
-    public boolean isFull() {
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                if (cells[i][j] == ' ') {
-                    return false;
-                }
+    // History entry: bit 0 player placed, bits 1-2 previous occupant (0 empty, 1 X, 2 O),
+    // bits 3-4 the X and O won flags before the placement, bits 5+ the cell index.
+    private int entry(int index, int player, int previous) {
+        return index << 5 | (oWon ? 1 << 4 : 0) | (xWon ? 1 << 3 : 0) | previous << 1 | player;
+    }
+
+    // Places player 0 (X) or 1 (O) on the cell and returns the history entry that reverts it.
+    private int apply(int index, int player) {
+        long[] own = player == 0 ? xBits : oBits;
+        long[] other = player == 0 ? oBits : xBits;
+        int word = index >>> 6;
+        long bit = 1L << index;
+        boolean overwrite = (other[word] & bit) != 0;
+        int entry = entry(index, player, overwrite ? 2 - player : 0);
+        own[word] |= bit;
+        other[word] &= ~bit;
+        toggleHash(index, player);
+        if (overwrite) {
+            toggleHash(index, 1 - player);
+            rescanWinners();
+        } else {
+            filled++;
+        }
+
+        if (classic ? completesClassicLine((int) own[0], index) : completesLine(own, index / size, index % size)) {
+            if (player == 0) {
+                xWon = true;
+            } else {
+                oWon = true;
             }
         }
+        return entry;
+    }
+
+    private void push(int entry) {
+        if (undoCount == history.length) {
+            // Only reachable through overwrites; forget the oldest placement.
+            System.arraycopy(history, 1, history, 0, history.length - 1);
+            undoCount--;
+        }
+        history[undoCount++] = entry;
+        historyEnd = undoCount;
+    }
+
+    /**
+     * Reverts the most recent placement still in the history, restoring the
+     * cell, hash and win state without rescanning. Returns false when there is
+     * nothing to undo.
+     */
+    public boolean undo() {
+        if (undoCount == 0) {
+            return false;
+        }
+        int entry = history[--undoCount];
+        int index = entry >>> 5;
+        int player = entry & 1;
+        int previous = (entry >>> 1) & 3;
+        int word = index >>> 6;
+        long bit = 1L << index;
+        (player == 0 ? xBits : oBits)[word] &= ~bit;
+        toggleHash(index, player);
+        if (previous == 0) {
+            filled--;
+        } else {
+            (previous == 1 ? xBits : oBits)[word] |= bit;
+            toggleHash(index, previous - 1);
+        }
+        xWon = (entry & 1 << 3) != 0;
+        oWon = (entry & 1 << 4) != 0;
         return true;
     }
 
-    public void clear() {
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                cells[i][j] = ' ';
+    /** Replays the most recently undone placement. Returns false when there is nothing to redo. */
+    public boolean redo() {
+        if (undoCount == historyEnd) {
+            return false;
+        }
+        int entry = history[undoCount];
+        history[undoCount++] = apply(entry >>> 5, entry & 1);
+        return true;
+    }
+
+    /**
+     * Empties (x, y). Removing the most recent placement is an O(1) {@link #undo()};
+     * any other cell needs a full rescan for winners and clears the undo history.
+     */
+    public void remove(int x, int y) {
+        int index = index(x, y);
+        int word = index >>> 6;
+        long bit = 1L << index;
+        if (((xBits[word] | oBits[word]) & bit) == 0) {
+            return;
+        }
+        if (undoCount > 0 && history[undoCount - 1] >>> 5 == index && (history[undoCount - 1] & 0b110) == 0) {
+            undo();
+            historyEnd = undoCount;
+            return;
+        }
+        toggleHash(index, (xBits[word] & bit) != 0 ? 0 : 1);
+        xBits[word] &= ~bit;
+        oBits[word] &= ~bit;
+        filled--;
+        rescanWinners();
+        undoCount = 0;
+        historyEnd = 0;
+    }
+
+    public char getCell(int x, int y) {
+        int index = index(x, y);
+        if (isSet(xBits, index)) {
+            return 'X';
+        }
+        if (isSet(oBits, index)) {
+            return 'O';
+        }
+        return ' ';
+    }
+
+    public int getFilledCount() {
+        return filled;
+    }
+
+    /**
+     * Empty cells as a bit mask, cell (x, y) at bit x * size + y. Only defined for
+     * boards of at most 64 cells.
+     */
+    public long getLegalMoves() {
+        int cells = size * size;
+        if (cells > 64) {
+            throw new IllegalStateException("Move masks are only available for boards of up to 64 cells");
+        }
+        long valid = cells == 64 ? -1L : (1L << cells) - 1;
+        return ~(xBits[0] | oBits[0]) & valid;
+    }
+
+    /**
+     * Writes the empty cells (x * size + y) into {@code moves} in index order and
+     * returns how many were written. {@code moves} needs room for every empty cell.
+     */
+    public int getLegalMoves(int[] moves) {
+        int cells = size * size;
+        int count = 0;
+        for (int word = 0; word < xBits.length; word++) {
+            long empty = ~(xBits[word] | oBits[word]);
+            int remaining = cells - (word << 6);
+            if (remaining < 64) {
+                empty &= (1L << remaining) - 1;
+            }
+            while (empty != 0) {
+                moves[count++] = (word << 6) + Long.numberOfTrailingZeros(empty);
+                empty &= empty - 1;
             }
         }
+        return count;
     }
 
-    public void print() {
-        System.out.println("-------------");
-        for (int i = 0; i < 3; i++) {
-            System.out.print("| ");
-            for (int j = 0; j < 3; j++) {
-                System.out.print(cells[i][j] + " | ");
+    /**
+     * Like {@link #getLegalMoves(int[])}, but ordered from the center outwards,
+     * corners of each ring before its edges (center, corners, edges on 3x3), which
+     * tends to put the strongest moves first for alpha-beta search.
+     */
+    public int getOrderedMoves(int[] moves) {
+        int count = 0;
+        for (int cell : moveOrder) {
+            if (!isSet(xBits, cell) && !isSet(oBits, cell)) {
+                moves[count++] = cell;
             }
-            System.out.println();
-            System.out.println("-------------");
         }
+        return count;
+    }
+
+    private static int[] moveOrder(int size) {
+        // Twice the distance from the center, so even sizes stay in integers. Sorting
+        // key << 32 | cell keeps equal keys in cell order without boxing or lambdas,
+        // which keeps the first Board cheap on a cold JVM.
+        int center = size - 1;
+        long[] keyed = new long[size * size];
+        for (int cell = 0; cell < keyed.length; cell++) {
+            int dx = Math.abs(2 * (cell / size) - center);
+            int dy = Math.abs(2 * (cell % size) - center);
+            long ring = Math.max(dx, dy);
+            long key = ring * 4 * size + 2 * center - (dx + dy);
+            keyed[cell] = key << 32 | cell;
+        }
+        Arrays.sort(keyed);
+        int[] order = new int[keyed.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (int) keyed[i];
+        }
+        return order;
+    }
+
+    public boolean isFull() {
+        if (GameMetrics.ENABLED) {
+            GameMetrics.global().countIsFull();
+        }
+        return filled == size * size;
+    }
+
+    public void clear() {
+        Arrays.fill(xBits, 0);
+        Arrays.fill(oBits, 0);
+        filled = 0;
+        xWon = false;
+        oWon = false;
+        Arrays.fill(hashes, 0);
+        undoCount = 0;
+        historyEnd = 0;
+    }
+
+    /**
+     * Zobrist hash of the position, updated incrementally by {@link #place},
+     * {@link #remove}, {@link #undo} and {@link #redo}. Equal positions on boards of the same size hash equally.
+     */
+    public long getHash() {
+        return hashes[0];
+    }
+
+    /**
+     * Zobrist hash that is the same for all 8 rotations and mirror images of the
+     * position.
+     */
+    public long getCanonicalHash() {
+        long min = hashes[0];
+        for (int t = 1; t < Zobrist.TRANSFORMS; t++) {
+            min = Math.min(min, hashes[t]);
+        }
+        return min;
+    }
+
+    private void toggleHash(int index, int player) {
+        long[] keys = zobrist.keys();
+        int base = Zobrist.offset(index, player);
+        for (int t = 0; t < Zobrist.TRANSFORMS; t++) {
+            hashes[t] ^= keys[base + t];
+        }
+    }
+
+    public void print() {
+        StringBuilder sb = new StringBuilder();
+        BoardRenderer.appendBoard(sb, this);
+        System.out.print(sb);
     }
 
+    /**
+     * Returns whether {@code marker} has {@link #getWinLength()} cells in a row;
+     * the name predates configurable boards.
+     */
     public boolean hasThreeInRow(char marker) {
-        // Check rows and columns
-        for (int i = 0; i < 3; i++) {
-            if ((cells[i][0] == marker && cells[i][1] == marker && cells[i][2] == marker) ||
-                    (cells[0][i] == marker && cells[1][i] == marker && cells[2][i] == marker)) {
+        return marker == 'X' ? xWon : marker == 'O' && oWon;
+    }
+
+    /**
+     * The state of the game on this board, read from the win flags and filled
+     * count that every placement and undo keep up to date. A position where both
+     * sides have a line, only reachable by overwriting, reports
+     * {@link GameStatus#X_WON}.
+     */
+    public GameStatus status() {
+        if (xWon) {
+            return GameStatus.X_WON;
+        }
+        if (oWon) {
+            return GameStatus.O_WON;
+        }
+        return filled == size * size ? GameStatus.DRAW : GameStatus.IN_PROGRESS;
+    }
+
+    /**
+     * Bits of the X cells, cell (x, y) at bit x * size + y. Only defined for boards
+     * of at most 32 cells.
+     */
+    public int getXMask() {
+        return (int) smallBoardBits(xBits);
+    }
+
+    /**
+     * Bits of the O cells, cell (x, y) at bit x * size + y. Only defined for boards
+     * of at most 32 cells.
+     */
+    public int getOMask() {
+        return (int) smallBoardBits(oBits);
+    }
+
+    private long smallBoardBits(long[] bits) {
+        if (size * size > 32) {
+            throw new IllegalStateException("Cell masks are only available for boards of up to 32 cells");
+        }
+        return bits[0];
+    }
+
+    private static boolean completesClassicLine(int bits, int index) {
+        for (int mask : CELL_WIN_MASKS[index]) {
+            if ((bits & mask) == mask) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Only the four lines through the last placed cell can have been completed by it.
+    private boolean completesLine(long[] bits, int x, int y) {
+        for (int[] direction : DIRECTIONS) {
+            int count = 1
+                    + countFrom(bits, x, y, direction[0], direction[1])
+                    + countFrom(bits, x, y, -direction[0], -direction[1]);
+            if (count >= winLength) {
                 return true;
             }
         }
+        return false;
+    }
+
+    private int countFrom(long[] bits, int x, int y, int dx, int dy) {
+        int count = 0;
+        int i = x + dx;
+        int j = y + dy;
+        while (count < winLength - 1 && i >= 0 && i < size && j >= 0 && j < size && isSet(bits, i * size + j)) {
+            count++;
+            i += dx;
+            j += dy;
+        }
+        return count;
+    }
+
+    // Removing or overwriting a cell can break an existing line, so fall back to a full scan.
+    private void rescanWinners() {
+        xWon = scanForLine(xBits);
+        oWon = scanForLine(oBits);
+    }
 
-        // Check diagonals
-        if ((cells[0][0] == marker && cells[1][1] == marker && cells[2][2] == marker) ||
-                (cells[0][2] == marker && cells[1][1] == marker && cells[2][0] == marker)) {
-            return true;
+    private boolean scanForLine(long[] bits) {
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (isSet(bits, i * size + j) && completesLine(bits, i, j)) {
+                    return true;
+                }
+            }
         }
+        return false;
+    }
 
+    static boolean hasLine(int mask) {
+        for (int winMask : WIN_MASKS) {
+            if ((mask & winMask) == winMask) {
+                return true;
+            }
+        }
         return false;
     }
 }
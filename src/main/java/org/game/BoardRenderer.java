@@ -0,0 +1,147 @@
+package org.game;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Renders boards into a reusable buffer and hands each frame (or a batch of
+ * frames) to the sink in a single {@code write}, instead of one console call per
+ * cell. With {@link #NO_OP} as sink nothing is formatted at all.
+ * <p>
+ * In redraw mode every flush that contains a board first moves the cursor back,
+ * with ANSI escapes, over everything written since the previous board, so a
+ * terminal shows the board updating in place. Text without a trailing newline is
+ * taken to be a prompt answered on the console, whose Enter ends the line. Only
+ * output written through the renderer is counted, so a caller in redraw mode
+ * must send all of its console output here.
+ */
+public class BoardRenderer {
+    /** Sink for headless runs; rendering to it is skipped entirely. */
+    public static final OutputStream NO_OP = OutputStream.nullOutputStream();
+
+    private static final String CURSOR_UP_AND_CLEAR = "\u001B[%dF\u001B[J";
+
+    private final OutputStream sink;
+    private final boolean redrawInPlace;
+    private final StringBuilder text = new StringBuilder(256);
+    private byte[] bytes = new byte[256];
+    // Redraw bookkeeping: lines written since the last board began, whether a board has been drawn,
+    // whether the pending text holds a board, and whether the last write ended mid-line.
+    private int linesOnScreen;
+    private boolean frameOnScreen;
+    private boolean frameInText;
+    private boolean partialLine;
+
+    public BoardRenderer(OutputStream sink) {
+        this(sink, false);
+    }
+
+    public BoardRenderer(OutputStream sink, boolean redrawInPlace) {
+        this.sink = sink;
+        this.redrawInPlace = redrawInPlace;
+    }
+
+    /** Whether output is discarded, so callers can skip building their messages too. */
+    public boolean isSilent() {
+        return sink == NO_OP;
+    }
+
+    /** Adds a board to the pending output. */
+    public BoardRenderer append(Board board) {
+        if (sink != NO_OP) {
+            appendBoard(text, board);
+            frameInText = true;
+        }
+        return this;
+    }
+
+    /** Adds a line of text to the pending output. */
+    public BoardRenderer appendLine(CharSequence line) {
+        if (sink != NO_OP) {
+            text.append(line).append('\n');
+        }
+        return this;
+    }
+
+    /** Adds text that does not end the line, such as a prompt, to the pending output. */
+    public BoardRenderer appendText(CharSequence line) {
+        if (sink != NO_OP) {
+            text.append(line);
+        }
+        return this;
+    }
+
+    /** Renders one board and flushes it. */
+    public void render(Board board) {
+        append(board).flush();
+    }
+
+    /** Writes everything appended since the last flush in one call to the sink. */
+    public void flush() {
+        if (text.isEmpty()) {
+            return;
+        }
+        int lines = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines++;
+            }
+        }
+        if (redrawInPlace) {
+            if (partialLine) {
+                linesOnScreen++;
+            }
+            partialLine = text.charAt(text.length() - 1) != '\n';
+            if (frameInText) {
+                if (linesOnScreen > 0) {
+                    text.insert(0, CURSOR_UP_AND_CLEAR.formatted(linesOnScreen));
+                }
+                linesOnScreen = 0;
+                frameOnScreen = true;
+            }
+            // Text before the first board stays on screen.
+            if (frameOnScreen) {
+                linesOnScreen += lines;
+            }
+        }
+        frameInText = false;
+
+        int length = text.length();
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+        }
+        // Boards, game messages and escapes are plain ASCII, so each char is one byte.
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) text.charAt(i);
+        }
+        text.setLength(0);
+
+        try {
+            sink.write(bytes, 0, length);
+            sink.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void appendBoard(StringBuilder sb, Board board) {
+        int size = board.getSize();
+        int borderStart = sb.length();
+        sb.append('-');
+        for (int j = 0; j < size; j++) {
+            sb.append("----");
+        }
+        int borderEnd = sb.length();
+        sb.append('\n');
+
+        for (int i = 0; i < size; i++) {
+            sb.append("| ");
+            for (int j = 0; j < size; j++) {
+                sb.append(board.getCell(i, j)).append(" | ");
+            }
+            sb.append('\n');
+            sb.append(sb, borderStart, borderEnd).append('\n');
+        }
+    }
+}
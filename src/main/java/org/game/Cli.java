@@ -0,0 +1,175 @@
+package org.game;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Non-interactive command line for scripted evaluations: one position in, one
+ * line out.
+ * <pre>
+ * status [--board size winLength] &lt;position&gt;  -> &lt;status&gt; &lt;next&gt;
+ * best   [--board size winLength] &lt;position&gt;  -> &lt;row&gt; &lt;col&gt; | GAME_OVER
+ * score  &lt;position&gt;                           -> WIN | DRAW | LOSS | GAME_OVER  (for the side to move, 3x3 only)
+ * generate &lt;file&gt;                            -> writes the 3x3 {@link PositionDatabase} to file
+ * </pre>
+ * A position is either one token of size * size cells row by row ({@code X},
+ * {@code O}, and {@code .} or {@code -} for empty), or a list of {@code row,col}
+ * moves played from the empty board with X first; no moves means the empty board.
+ * <p>
+ * 3x3 answers come from the {@link PositionDatabase} bundled as the
+ * {@value #POSITIONS_RESOURCE} resource when the jar was built with it (see
+ * the {@code appcds} build profile), and from the {@link Solver} otherwise. Larger boards are searched by {@link ParallelSearch} for at most
+ * {@link #SEARCH_BUDGET}.
+ */
+public final class Cli {
+    static final String POSITIONS_RESOURCE = "/org/game/tictactoe-positions.bin";
+    static final Duration SEARCH_BUDGET = Duration.ofMillis(50);
+    private static final int SEARCH_DEPTH = 8;
+
+    private Cli() {
+    }
+
+    /** Runs one command and returns the process exit code: 0 on success, 2 on bad input. */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        try {
+            if (args.length == 0) {
+                throw new IllegalArgumentException("missing command");
+            }
+            String command = args[0];
+            if (command.equals("generate")) {
+                if (args.length != 2) {
+                    throw new IllegalArgumentException("usage: generate <file>");
+                }
+                PositionDatabase.generate(Path.of(args[1]));
+                return 0;
+            }
+
+            int first = 1;
+            int size = 3;
+            int winLength = 3;
+            if (args.length >= 4 && args[1].equals("--board")) {
+                size = Integer.parseInt(args[2]);
+                winLength = Integer.parseInt(args[3]);
+                first = 4;
+            }
+            Position position = load(new Board(size, winLength), args, first);
+
+            switch (command) {
+                case "status" -> out.println(position.status() + " " + position.next());
+                case "best" -> out.println(best(position));
+                case "score" -> out.println(score(position));
+                default -> throw new IllegalArgumentException("unknown command: " + command);
+            }
+            return 0;
+        } catch (IllegalArgumentException e) {
+            err.println("ERR " + e.getMessage());
+            err.println("usage: status|best|score [--board size winLength] <position | row,col ...>, or generate <file>");
+            return 2;
+        }
+    }
+
+    private record Position(Board board, char next, GameStatus status) {
+    }
+
+    private static Position load(Board board, String[] args, int first) {
+        if (args.length == first + 1 && !args[first].contains(",")) {
+            return loadCells(board, args[first]);
+        }
+        GameEngine engine = new GameEngine(board);
+        for (int i = first; i < args.length; i++) {
+            String[] coordinates = args[i].split(",");
+            if (coordinates.length != 2) {
+                throw new IllegalArgumentException("bad move: " + args[i]);
+            }
+            int row = Integer.parseInt(coordinates[0].trim());
+            int col = Integer.parseInt(coordinates[1].trim());
+            GameEngine.MoveResult result = engine.move(row, col);
+            if (result != GameEngine.MoveResult.OK) {
+                throw new IllegalArgumentException(result + " at move " + (i - first + 1) + " (" + row + "," + col + ")");
+            }
+        }
+        return new Position(board, engine.getCurrentMarker(), engine.getStatus());
+    }
+
+    private static Position loadCells(Board board, String cells) {
+        int size = board.getSize();
+        if (cells.length() != size * size) {
+            throw new IllegalArgumentException("position needs " + size * size + " cells: " + cells);
+        }
+        int xCount = 0;
+        int oCount = 0;
+        for (int i = 0; i < cells.length(); i++) {
+            switch (Character.toUpperCase(cells.charAt(i))) {
+                case 'X' -> {
+                    board.place(i / size, i % size, 'X');
+                    xCount++;
+                }
+                case 'O' -> {
+                    board.place(i / size, i % size, 'O');
+                    oCount++;
+                }
+                case '.', '-' -> {
+                }
+                default -> throw new IllegalArgumentException("bad cell '" + cells.charAt(i) + "' in " + cells);
+            }
+        }
+        boolean xWon = board.hasThreeInRow('X');
+        boolean oWon = board.hasThreeInRow('O');
+        // X moves first, so X is always level with O or one ahead, and only the side that moved last can have won.
+        if (xCount != oCount && xCount != oCount + 1 || xWon && (oWon || xCount == oCount) || oWon && xCount != oCount) {
+            throw new IllegalArgumentException("not reachable with X moving first: " + cells);
+        }
+        GameStatus status = board.status();
+        // As in GameEngine, a finished game keeps the player who moved last.
+        char lastMover = xCount > oCount ? 'X' : 'O';
+        char next = status == GameStatus.IN_PROGRESS ? GameEngine.opponent(lastMover) : lastMover;
+        return new Position(board, next, status);
+    }
+
+    private static String best(Position position) {
+        if (position.status() != GameStatus.IN_PROGRESS) {
+            return "GAME_OVER";
+        }
+        Board board = position.board();
+        int cell;
+        if (isClassic(board)) {
+            PositionDatabase database = database();
+            cell = database != null ? database.bestMove(board) : new Solver().bestMove(board, position.next());
+        } else {
+            cell = new ParallelSearch(SEARCH_DEPTH, SEARCH_BUDGET).chooseMove(board, position.next());
+        }
+        return cell / board.getSize() + " " + cell % board.getSize();
+    }
+
+    private static String score(Position position) {
+        if (!isClassic(position.board())) {
+            throw new IllegalArgumentException("score is only available on the 3x3 board");
+        }
+        return score(position.board(), position.next(), database());
+    }
+
+    // Finished games have no side to move, so, as for best, both sources answer GAME_OVER.
+    static String score(Board board, char next, PositionDatabase database) {
+        if (board.status() != GameStatus.IN_PROGRESS) {
+            return "GAME_OVER";
+        }
+        int score = database != null ? database.score(board) : new Solver().evaluate(board, next);
+        return score > 0 ? "WIN" : score < 0 ? "LOSS" : "DRAW";
+    }
+
+    private static boolean isClassic(Board board) {
+        return board.getSize() == 3 && board.getWinLength() == 3;
+    }
+
+    private static PositionDatabase database() {
+        try (InputStream in = Cli.class.getResourceAsStream(POSITIONS_RESOURCE)) {
+            return in != null ? PositionDatabase.read(in) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.game;
+
+import java.util.Objects;
+
+/**
+ * Console-free game state: applies moves, tracks whose turn it is and the game
+ * status. Nothing here prints or builds strings, so it can be driven by
+ * simulators and bots as well as by the interactive {@link TicTacToe} loop.
+ */
+public class GameEngine {
+    public enum MoveResult {
+        OK,
+        OUT_OF_BOUNDS,
+        OCCUPIED,
+        GAME_OVER
+    }
+
+    private final Board board;
+    private final int[] moves;
+    private int moveCount;
+    private char startingMarker;
+    private char currentMarker;
+    private GameStatus status;
+    private GameEventPublisher events;
+
+    public GameEngine() {
+        this(new Board());
+    }
+
+    public GameEngine(Board board) {
+        this.board = board;
+        moves = new int[board.getSize() * board.getSize()];
+        reset();
+    }
+
+    public void reset() {
+        reset('X');
+    }
+
+    public void reset(char startingMarker) {
+        board.clear();
+        moveCount = 0;
+        this.startingMarker = startingMarker;
+        currentMarker = startingMarker;
+        status = GameStatus.IN_PROGRESS;
+        if (events != null && events.hasSubscribers()) {
+            events.publish(new GameEvent.Started(board.getSize(), board.getWinLength(), startingMarker));
+        }
+    }
+
+    /**
+     * Publishes every state change of this engine to {@code events}, or stops
+     * publishing when it is null.
+     */
+    public void setEventPublisher(GameEventPublisher events) {
+        this.events = events;
+    }
+
+    public MoveResult move(int x, int y) {
+        if (status != GameStatus.IN_PROGRESS) {
+            return MoveResult.GAME_OVER;
+        }
+        int size = board.getSize();
+        if (x < 0 || x >= size || y < 0 || y >= size) {
+            return MoveResult.OUT_OF_BOUNDS;
+        }
+        if (!board.isCellEmpty(x, y)) {
+            return MoveResult.OCCUPIED;
+        }
+
+        board.place(x, y, currentMarker);
+        moves[moveCount++] = x * size + y;
+
+        // Only the mover can have completed a line, so a won status names the current marker.
+        status = board.status();
+        if (status == GameStatus.IN_PROGRESS) {
+            currentMarker = opponent(currentMarker);
+        }
+        if (events != null && events.hasSubscribers()) {
+            publishMove(x, y);
+        }
+        return MoveResult.OK;
+    }
+
+    private void publishMove(int x, int y) {
+        events.publish(new GameEvent.Moved(board.getCell(x, y), x, y, moveCount));
+        switch (status) {
+            case X_WON, O_WON -> events.publish(new GameEvent.Won(currentMarker, moveCount));
+            case DRAW -> events.publish(new GameEvent.Drawn(moveCount));
+            case IN_PROGRESS -> events.publish(new GameEvent.TurnChanged(currentMarker));
+        }
+    }
+
+    /**
+     * Gives the move to {@code marker} without playing one, for callers that
+     * decide turns themselves such as {@link TicTacToe#makeMove}. Ignored once
+     * the game is over.
+     */
+    void setTurn(char marker) {
+        if (status != GameStatus.IN_PROGRESS || marker == currentMarker) {
+            return;
+        }
+        currentMarker = marker;
+        if (events != null && events.hasSubscribers()) {
+            events.publish(new GameEvent.TurnChanged(currentMarker));
+        }
+    }
+
+    public boolean undo() {
+        if (moveCount == 0) {
+            return false;
+        }
+        int cell = moves[--moveCount];
+        int x = cell / board.getSize();
+        int y = cell % board.getSize();
+        currentMarker = board.getCell(x, y);
+        board.remove(x, y);
+        status = GameStatus.IN_PROGRESS;
+        if (events != null && events.hasSubscribers()) {
+            events.publish(new GameEvent.Undone(currentMarker, x, y, moveCount));
+            events.publish(new GameEvent.TurnChanged(currentMarker));
+        }
+        return true;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public char getCurrentMarker() {
+        return currentMarker;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /** Cell (x * size + y) of the {@code i}-th move of the current game. */
+    public int getMove(int i) {
+        return moves[Objects.checkIndex(i, moveCount)];
+    }
+
+    public char getStartingMarker() {
+        return startingMarker;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    static char opponent(char marker) {
+        return marker == 'X' ? 'O' : 'X';
+    }
+}
@@ -0,0 +1,27 @@
+package org.game;
+
+/**
+ * A change of game state, as published by {@link GameEventPublisher}. Cells are
+ * given as row {@code x} and column {@code y}; {@code moveCount} is the number of
+ * moves on the board after the change.
+ */
+public sealed interface GameEvent {
+    /** A new game started on an empty board. */
+    record Started(int size, int winLength, char startingMarker) implements GameEvent {
+    }
+
+    record Moved(char marker, int x, int y, int moveCount) implements GameEvent {
+    }
+
+    record TurnChanged(char next) implements GameEvent {
+    }
+
+    record Undone(char marker, int x, int y, int moveCount) implements GameEvent {
+    }
+
+    record Won(char winner, int moveCount) implements GameEvent {
+    }
+
+    record Drawn(int moveCount) implements GameEvent {
+    }
+}
@@ -0,0 +1,68 @@
+package org.game;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+/**
+ * Fans {@link GameEvent}s out to any number of {@link Flow.Subscriber}s, e.g.
+ * spectator dashboards. Every subscriber gets its own bounded buffer and is
+ * fed on the executor as it {@link Flow.Subscription#request requests} more;
+ * {@link #publish} never blocks, so when a slow subscriber's buffer is full the
+ * event is dropped for that subscriber only and counted in
+ * {@link #getDroppedCount()}.
+ * <p>
+ * Publishers hold no threads of their own, so one per game is cheap; share the
+ * executor between games. Producers should skip building events when
+ * {@link #hasSubscribers()} is false.
+ */
+public class GameEventPublisher implements Flow.Publisher<GameEvent>, AutoCloseable {
+    private final SubmissionPublisher<GameEvent> publisher;
+    private final LongAdder dropped = new LongAdder();
+    // Counts the event and gives up on that subscriber; kept in a field so publish allocates nothing.
+    private final BiPredicate<Flow.Subscriber<? super GameEvent>, ? super GameEvent> onDrop = (subscriber, item) -> {
+        dropped.increment();
+        return false;
+    };
+
+    public GameEventPublisher() {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /** Delivers on {@code executor}; {@code bufferCapacity} is rounded up to a power of two. */
+    public GameEventPublisher(Executor executor, int bufferCapacity) {
+        publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    public boolean hasSubscribers() {
+        return publisher.hasSubscribers();
+    }
+
+    public int getSubscriberCount() {
+        return publisher.getNumberOfSubscribers();
+    }
+
+    /** Offers {@code event} to every subscriber without waiting for any of them. */
+    public void publish(GameEvent event) {
+        publisher.offer(event, onDrop);
+    }
+
+    /** Events dropped because a subscriber's buffer was full, summed over subscribers. */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /** Completes every subscriber once it has drained its buffer; later events are rejected. */
+    @Override
+    public void close() {
+        publisher.close();
+    }
+}
@@ -0,0 +1,285 @@
+package org.game;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms for the game loop. Instrumented code checks
+ * {@link #ENABLED} before touching the metrics; it is a constant read from the
+ * {@code org.game.metrics} system property, so with metrics off the JIT removes
+ * the instrumentation entirely.
+ * <p>
+ * Counters are {@link LongAdder}s, so the hot {@link Board#isFull} and
+ * {@link TicTacToe#hasWinner} probes only count calls and never read the clock.
+ * Histograms are striped by thread as well: each recording locks one
+ * of several {@link LatencyHistogram}s, so concurrent games rarely meet on a
+ * lock, and readers merge the stripes.
+ * Moves are timed around the engine update, not around the player's decision,
+ * and only one move in {@value #LATENCY_SAMPLE_RATE} is timed: two clock reads
+ * cost more than the rest of a 3x3 move, so latency percentiles and the maximum
+ * come from that sample while every count is exact.
+ * The process-wide instance from {@link #global()} is registered with JMX as
+ * {@value #OBJECT_NAME}; {@link #startReporter} prints a periodic text dump.
+ */
+public class GameMetrics implements GameMetricsMBean {
+    public static final boolean ENABLED = Boolean.getBoolean("org.game.metrics");
+    public static final String OBJECT_NAME = "org.game:type=GameMetrics";
+    public static final int LATENCY_SAMPLE_RATE = 16;
+    /** Start time of a move left out of the latency sample; see {@link #startMove()}. */
+    public static final long UNTIMED = Long.MIN_VALUE;
+
+    private static final class Holder {
+        static final GameMetrics GLOBAL = register(new GameMetrics());
+    }
+
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder invalidMoves = new LongAdder();
+    private final LongAdder xWins = new LongAdder();
+    private final LongAdder oWins = new LongAdder();
+    private final LongAdder draws = new LongAdder();
+    private final LongAdder isFullCalls = new LongAdder();
+    private final LongAdder hasWinnerCalls = new LongAdder();
+    private final StripedHistogram moveLatency = new StripedHistogram();
+    private final StripedHistogram gameLength = new StripedHistogram();
+    private volatile long startNanos = System.nanoTime();
+
+    /** The process-wide metrics, registered with the platform MBean server on first use. */
+    public static GameMetrics global() {
+        return Holder.GLOBAL;
+    }
+
+    private static GameMetrics register(GameMetrics metrics) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+        }
+        return metrics;
+    }
+
+    /**
+     * The clock reading to pass to {@link #finishMove} once the move is applied,
+     * or {@link #UNTIMED} for the moves left out of the latency sample.
+     */
+    public static long startMove() {
+        return ThreadLocalRandom.current().nextInt(LATENCY_SAMPLE_RATE) == 0 ? System.nanoTime() : UNTIMED;
+    }
+
+    /** Records one attempted move that began at {@code start}, from {@link #startMove()}. */
+    public void finishMove(GameEngine.MoveResult result, long start) {
+        recordMove(result, start == UNTIMED ? UNTIMED : System.nanoTime() - start);
+    }
+
+    /** Records one attempted move and how long applying it took, or {@link #UNTIMED}. */
+    public void recordMove(GameEngine.MoveResult result, long nanos) {
+        if (result == GameEngine.MoveResult.OK) {
+            moves.increment();
+            if (nanos != UNTIMED) {
+                moveLatency.record(nanos);
+            }
+        } else {
+            invalidMoves.increment();
+        }
+    }
+
+    /** Records a finished game; {@code status} must not be {@link GameStatus#IN_PROGRESS}. */
+    public void recordGame(GameStatus status, int moveCount) {
+        switch (status) {
+            case X_WON -> xWins.increment();
+            case O_WON -> oWins.increment();
+            case DRAW -> draws.increment();
+            case IN_PROGRESS -> throw new IllegalArgumentException("Game is still in progress");
+        }
+        gameLength.record(moveCount);
+    }
+
+    void countIsFull() {
+        isFullCalls.increment();
+    }
+
+    void countHasWinner() {
+        hasWinnerCalls.increment();
+    }
+
+    @Override
+    public long getMoveCount() {
+        return moves.sum();
+    }
+
+    @Override
+    public long getInvalidMoveCount() {
+        return invalidMoves.sum();
+    }
+
+    @Override
+    public double getInvalidMoveRate() {
+        long invalid = invalidMoves.sum();
+        long total = moves.sum() + invalid;
+        return total == 0 ? 0 : (double) invalid / total;
+    }
+
+    /** Valid moves per second since creation or the last {@link #reset}. */
+    @Override
+    public double getMovesPerSecond() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed <= 0 ? 0 : moves.sum() * 1e9 / elapsed;
+    }
+
+    @Override
+    public long getMoveLatencyP50Nanos() {
+        return moveLatency.snapshot().getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getMoveLatencyP99Nanos() {
+        return moveLatency.snapshot().getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getMoveLatencyMaxNanos() {
+        return moveLatency.snapshot().getMax();
+    }
+
+    @Override
+    public long getGameCount() {
+        return xWins.sum() + oWins.sum() + draws.sum();
+    }
+
+    @Override
+    public long getXWinCount() {
+        return xWins.sum();
+    }
+
+    @Override
+    public long getOWinCount() {
+        return oWins.sum();
+    }
+
+    @Override
+    public long getDrawCount() {
+        return draws.sum();
+    }
+
+    @Override
+    public double getDrawRatio() {
+        long games = getGameCount();
+        return games == 0 ? 0 : (double) draws.sum() / games;
+    }
+
+    @Override
+    public long getGameLengthP50() {
+        return gameLength.snapshot().getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getGameLengthMax() {
+        return gameLength.snapshot().getMax();
+    }
+
+    @Override
+    public long getIsFullCalls() {
+        return isFullCalls.sum();
+    }
+
+    @Override
+    public long getHasWinnerCalls() {
+        return hasWinnerCalls.sum();
+    }
+
+    @Override
+    public String dump() {
+        return String.format(
+                "moves=%d (%.1f/s) invalid=%d (%.2f%%) move-latency p50=%dns p99=%dns max=%dns%n"
+                        + "games=%d X=%d O=%d draws=%d (%.1f%%) length p50=%d max=%d isFull=%d hasWinner=%d",
+                getMoveCount(), getMovesPerSecond(), getInvalidMoveCount(), getInvalidMoveRate() * 100,
+                getMoveLatencyP50Nanos(), getMoveLatencyP99Nanos(), getMoveLatencyMaxNanos(),
+                getGameCount(), getXWinCount(), getOWinCount(), getDrawCount(), getDrawRatio() * 100,
+                getGameLengthP50(), getGameLengthMax(), getIsFullCalls(), getHasWinnerCalls());
+    }
+
+    @Override
+    public void reset() {
+        moves.reset();
+        invalidMoves.reset();
+        xWins.reset();
+        oWins.reset();
+        draws.reset();
+        isFullCalls.reset();
+        hasWinnerCalls.reset();
+        moveLatency.reset();
+        gameLength.reset();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Prints {@link #dump()} to {@code out} every {@code interval} on a daemon
+     * thread until the returned handle is closed.
+     */
+    public AutoCloseable startReporter(Duration interval, PrintStream out) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "game-metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = interval.toNanos();
+        executor.scheduleAtFixedRate(() -> out.println(dump()), period, period, TimeUnit.NANOSECONDS);
+        return executor::shutdownNow;
+    }
+
+    /**
+     * {@link LatencyHistogram}s striped by thread id, each guarded by its own
+     * monitor; a thread always records into the same stripe, so its lock stays
+     * uncontended unless more threads record than there are stripes.
+     */
+    static final class StripedHistogram {
+        private final LatencyHistogram[] stripes;
+        private final int mask;
+
+        StripedHistogram() {
+            this(Runtime.getRuntime().availableProcessors() * 2);
+        }
+
+        StripedHistogram(int minStripes) {
+            int count = Integer.highestOneBit(Math.max(1, minStripes - 1)) << 1;
+            stripes = new LatencyHistogram[count];
+            for (int i = 0; i < count; i++) {
+                stripes[i] = new LatencyHistogram();
+            }
+            mask = count - 1;
+        }
+
+        void record(long value) {
+            LatencyHistogram stripe = stripes[(int) Thread.currentThread().threadId() & mask];
+            synchronized (stripe) {
+                stripe.record(value);
+            }
+        }
+
+        /** All stripes merged into a new histogram. */
+        LatencyHistogram snapshot() {
+            LatencyHistogram merged = new LatencyHistogram();
+            for (LatencyHistogram stripe : stripes) {
+                synchronized (stripe) {
+                    merged.add(stripe);
+                }
+            }
+            return merged;
+        }
+
+        void reset() {
+            for (LatencyHistogram stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.reset();
+                }
+            }
+        }
+    }
+}
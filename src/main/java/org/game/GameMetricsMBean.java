@@ -0,0 +1,40 @@
+package org.game;
+
+/** JMX view of {@link GameMetrics}, registered as {@value GameMetrics#OBJECT_NAME}. */
+public interface GameMetricsMBean {
+    long getMoveCount();
+
+    long getInvalidMoveCount();
+
+    double getInvalidMoveRate();
+
+    double getMovesPerSecond();
+
+    long getMoveLatencyP50Nanos();
+
+    long getMoveLatencyP99Nanos();
+
+    long getMoveLatencyMaxNanos();
+
+    long getGameCount();
+
+    long getXWinCount();
+
+    long getOWinCount();
+
+    long getDrawCount();
+
+    double getDrawRatio();
+
+    long getGameLengthP50();
+
+    long getGameLengthMax();
+
+    long getIsFullCalls();
+
+    long getHasWinnerCalls();
+
+    String dump();
+
+    void reset();
+}
@@ -0,0 +1,154 @@
+package org.game;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams records written by {@link GameRecordWriter} one at a time through a
+ * fixed buffer, so files of any size can be read without loading them:
+ * <pre>
+ * while (reader.next()) {
+ *     Board board = reader.replay();
+ * }
+ * </pre>
+ */
+public class GameRecordReader implements AutoCloseable {
+    private static final GameStatus[] RESULTS = GameStatus.values();
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int winLength;
+    private final byte[] moves = new byte[255];
+    private int moveCount;
+    private GameStatus result;
+    private char startingMarker;
+    private boolean endOfStream;
+
+    public static GameRecordReader open(Path file) {
+        try {
+            return new GameRecordReader(FileChannel.open(file, StandardOpenOption.READ));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public GameRecordReader(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(GameRecordWriter.DEFAULT_BUFFER_BYTES);
+        buffer.flip();
+        if (!fill(7) || buffer.getInt() != GameRecordWriter.MAGIC || buffer.get() != GameRecordWriter.VERSION) {
+            throw new IllegalStateException("Not a game record stream");
+        }
+        size = buffer.get();
+        winLength = buffer.get();
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    /** Advances to the next record; returns false at the end of the stream. */
+    public boolean next() {
+        if (!fill(2)) {
+            if (buffer.hasRemaining()) {
+                throw new IllegalStateException("Truncated game record");
+            }
+            return false;
+        }
+        int meta = buffer.get();
+        result = RESULTS[meta & 0b11];
+        startingMarker = (meta & 0b100) != 0 ? 'O' : 'X';
+        moveCount = buffer.get() & 0xFF;
+        if (!fill(moveCount)) {
+            throw new IllegalStateException("Truncated game record");
+        }
+        buffer.get(moves, 0, moveCount);
+        return true;
+    }
+
+    public GameStatus getResult() {
+        return result;
+    }
+
+    public char getStartingMarker() {
+        return startingMarker;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /** Cell (x * size + y) of the {@code i}-th move of the current record. */
+    public int getMove(int i) {
+        return moves[i] & 0xFF;
+    }
+
+    /** Plays the current record's moves onto a new board of the recorded size and win length. */
+    public Board replay() {
+        Board board = new Board(size, winLength);
+        replay(board);
+        return board;
+    }
+
+    /**
+     * Clears {@code board} and plays the current record's moves onto it; the board
+     * must have the recorded size and win length. Reusing one board avoids an
+     * allocation per record.
+     */
+    public void replay(Board board) {
+        if (board.getSize() != size || board.getWinLength() != winLength) {
+            throw new IllegalArgumentException("Board " + board.getSize() + "x" + board.getSize() + " with win length "
+                    + board.getWinLength() + " does not match records of " + size + "x" + size + " with win length " + winLength);
+        }
+        board.clear();
+        char marker = startingMarker;
+        for (int i = 0; i < moveCount; i++) {
+            int cell = moves[i] & 0xFF;
+            board.place(cell / size, cell % size, marker);
+            marker = GameEngine.opponent(marker);
+        }
+    }
+
+    // Makes sure at least {@code bytes} bytes are buffered; false if the stream ends first.
+    private boolean fill(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return true;
+        }
+        if (endOfStream) {
+            return false;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    endOfStream = true;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.flip();
+        }
+        return buffer.remaining() >= bytes;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
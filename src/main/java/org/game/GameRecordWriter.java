@@ -0,0 +1,116 @@
+package org.game;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams finished games into the compact binary record format:
+ * <pre>
+ * file:   magic "TTTR" (int), version (byte), board size (byte), win length (byte), records...
+ * record: meta (byte: bits 0-1 result as {@link GameStatus} ordinal, bit 2 set when O started),
+ *         move count (unsigned byte), one byte per move holding the cell x * size + y
+ * </pre>
+ * Records are collected in a large direct buffer and written to the channel in
+ * bulk. Boards may have at most 255 cells.
+ */
+public class GameRecordWriter implements AutoCloseable {
+    static final int MAGIC = 0x54545452; // "TTTR"
+    static final byte VERSION = 1;
+    static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private final int cells;
+    private long records;
+
+    public static GameRecordWriter create(Path file, int size, int winLength) {
+        try {
+            return new GameRecordWriter(FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), size, winLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public GameRecordWriter(WritableByteChannel channel, int size, int winLength) {
+        if (size * size > 255) {
+            throw new IllegalArgumentException("Game records support boards of up to 255 cells");
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_BYTES);
+        cells = size * size;
+        buffer.putInt(MAGIC).put(VERSION).put((byte) size).put((byte) winLength);
+    }
+
+    /** Appends the game currently held by {@code engine}. */
+    public void write(GameEngine engine) {
+        if (buffer.remaining() < 2 + engine.getMoveCount()) {
+            drain();
+        }
+        buffer.put(meta(engine.getStatus(), engine.getStartingMarker()));
+        buffer.put((byte) engine.getMoveCount());
+        for (int i = 0; i < engine.getMoveCount(); i++) {
+            buffer.put((byte) engine.getMove(i));
+        }
+        records++;
+    }
+
+    /**
+     * Appends a game given as {@code count} cells from {@code moves}; a game has
+     * at most one move per cell of the board.
+     */
+    public void write(GameStatus result, char startingMarker, byte[] moves, int count) {
+        if (count < 0 || count > cells || count > moves.length) {
+            throw new IllegalArgumentException("Move count " + count + " for " + moves.length
+                    + " moves on a board of " + cells + " cells");
+        }
+        if (buffer.remaining() < 2 + count) {
+            drain();
+        }
+        buffer.put(meta(result, startingMarker)).put((byte) count).put(moves, 0, count);
+        records++;
+    }
+
+    public long getRecordCount() {
+        return records;
+    }
+
+    private static byte meta(GameStatus result, char startingMarker) {
+        return (byte) (result.ordinal() | (startingMarker == 'O' ? 0b100 : 0));
+    }
+
+    private void drain() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.clear();
+    }
+
+    /** Writes any buffered records to the channel. */
+    public void flush() {
+        drain();
+    }
+
+    @Override
+    public void close() {
+        try {
+            drain();
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
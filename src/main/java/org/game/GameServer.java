@@ -0,0 +1,97 @@
+package org.game;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loopback TCP server hosting one {@link GameSession} per connection, each on its
+ * own virtual thread, so tens of thousands of matches can run in one JVM. All
+ * sessions share one {@link Solver}, whose table is safe for concurrent use.
+ * <p>
+ * Usage: {@code java org.game.GameServer [port]} (default 7777).
+ */
+public class GameServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 7777;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor();
+    private final Solver solver = new Solver();
+
+    public GameServer(int port) {
+        try {
+            serverSocket = new ServerSocket();
+            serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 4096);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Thread.ofPlatform().name("game-server-accept").daemon().start(this::acceptLoop);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                sessions.submit(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Accept failed: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             BufferedWriter out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+            GameSession session = new GameSession(solver);
+            String line;
+            while (!session.isClosed() && (line = in.readLine()) != null) {
+                out.write(session.handle(line));
+                out.newLine();
+                out.flush();
+            }
+        } catch (SocketException e) {
+            // client went away
+        } catch (IOException e) {
+            System.err.println("Session failed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            sessions.shutdownNow();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameServer server = new GameServer(port);
+        System.out.println("TicTacToe server listening on port " + server.getPort());
+        Thread.currentThread().join();
+    }
+}
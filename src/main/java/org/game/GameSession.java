@@ -0,0 +1,104 @@
+package org.game;
+
+/**
+ * One match driven through the line protocol of {@link GameServer}. Commands and
+ * replies are single lines:
+ * <pre>
+ * NEW [size winLength]  -> OK &lt;next&gt; &lt;status&gt;
+ * MOVE row col          -> OK &lt;next&gt; &lt;status&gt; | ERR OUT_OF_BOUNDS | ERR OCCUPIED | ERR GAME_OVER
+ * UNDO                  -> OK &lt;next&gt; &lt;status&gt; | ERR NOTHING_TO_UNDO
+ * STATE                 -> STATE &lt;cells row by row, '.' for empty&gt; &lt;next&gt; &lt;status&gt;
+ * BEST                  -> BEST row col | ERR GAME_OVER | ERR UNSUPPORTED  (3x3 only)
+ * QUIT                  -> BYE
+ * </pre>
+ * Anything else is answered with {@code ERR UNKNOWN_COMMAND} or {@code ERR BAD_ARGUMENTS}.
+ * Board sizes come from the network, so {@code NEW} accepts at most
+ * {@value #MAX_BOARD_SIZE}: every size in use keeps shared per-size tables alive.
+ */
+public class GameSession {
+    static final int MAX_BOARD_SIZE = 19;
+
+    private final Solver solver;
+    private GameEngine engine = new GameEngine();
+    private boolean closed;
+
+    public GameSession(Solver solver) {
+        this.solver = solver;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public String handle(String line) {
+        String[] parts = line.trim().split("\\s+");
+        try {
+            return switch (parts[0].toUpperCase()) {
+                case "NEW" -> newGame(parts);
+                case "MOVE" -> move(parts);
+                case "UNDO" -> engine.undo() ? ok() : "ERR NOTHING_TO_UNDO";
+                case "STATE" -> state();
+                case "BEST" -> best();
+                case "QUIT" -> {
+                    closed = true;
+                    yield "BYE";
+                }
+                default -> "ERR UNKNOWN_COMMAND";
+            };
+        } catch (IllegalArgumentException e) {
+            return "ERR BAD_ARGUMENTS";
+        }
+    }
+
+    private String newGame(String[] parts) {
+        if (parts.length == 3) {
+            int size = Integer.parseInt(parts[1]);
+            if (size > MAX_BOARD_SIZE) {
+                throw new IllegalArgumentException();
+            }
+            // The Board constructor rejects non-positive sizes and win lengths outside 1..size.
+            engine = new GameEngine(new Board(size, Integer.parseInt(parts[2])));
+        } else if (parts.length == 1) {
+            engine.reset();
+        } else {
+            throw new IllegalArgumentException();
+        }
+        return ok();
+    }
+
+    private String move(String[] parts) {
+        if (parts.length != 3) {
+            throw new IllegalArgumentException();
+        }
+        GameEngine.MoveResult result = engine.move(Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        return result == GameEngine.MoveResult.OK ? ok() : "ERR " + result;
+    }
+
+    private String best() {
+        Board board = engine.getBoard();
+        if (board.getSize() != 3 || board.getWinLength() != 3) {
+            return "ERR UNSUPPORTED";
+        }
+        if (engine.getStatus() != GameStatus.IN_PROGRESS) {
+            return "ERR GAME_OVER";
+        }
+        int cell = solver.bestMove(board, engine.getCurrentMarker());
+        return "BEST " + cell / 3 + " " + cell % 3;
+    }
+
+    private String state() {
+        Board board = engine.getBoard();
+        StringBuilder sb = new StringBuilder("STATE ");
+        for (int i = 0; i < board.getSize(); i++) {
+            for (int j = 0; j < board.getSize(); j++) {
+                char cell = board.getCell(i, j);
+                sb.append(cell == ' ' ? '.' : cell);
+            }
+        }
+        return sb.append(' ').append(engine.getCurrentMarker()).append(' ').append(engine.getStatus()).toString();
+    }
+
+    private String ok() {
+        return "OK " + engine.getCurrentMarker() + " " + engine.getStatus();
+    }
+}
@@ -0,0 +1,8 @@
+package org.game;
+
+public enum GameStatus {
+    IN_PROGRESS,
+    X_WON,
+    O_WON,
+    DRAW
+}
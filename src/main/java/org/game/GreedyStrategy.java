@@ -0,0 +1,51 @@
+package org.game;
+
+import java.time.Duration;
+
+/**
+ * Completes a line when it can, otherwise blocks the opponent's immediate win,
+ * otherwise plays the first move in {@link Board#getOrderedMoves} order (center,
+ * then corners, then edges). Looks one ply ahead, so it costs at most two passes
+ * over the empty cells.
+ */
+public class GreedyStrategy implements MoveStrategy {
+    private static final Duration TIME_BUDGET = Duration.ofMillis(1);
+
+    private int[] moves = new int[0];
+
+    @Override
+    public int chooseMove(Board board, char marker) {
+        int size = board.getSize();
+        if (moves.length < size * size) {
+            moves = new int[size * size];
+        }
+        int count = board.getOrderedMoves(moves);
+
+        int win = findCompletingMove(board, marker, count);
+        if (win >= 0) {
+            return win;
+        }
+        int block = findCompletingMove(board, GameEngine.opponent(marker), count);
+        return block >= 0 ? block : moves[0];
+    }
+
+    private int findCompletingMove(Board board, char marker, int count) {
+        int size = board.getSize();
+        for (int i = 0; i < count; i++) {
+            int x = moves[i] / size;
+            int y = moves[i] % size;
+            board.place(x, y, marker);
+            boolean wins = board.hasThreeInRow(marker);
+            board.undo();
+            if (wins) {
+                return moves[i];
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public Duration getTimeBudget() {
+        return TIME_BUDGET;
+    }
+}
@@ -0,0 +1,114 @@
+package org.game;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Opens many concurrent sessions against a {@link GameServer}, plays random games
+ * in each and reports request latency percentiles.
+ * <p>
+ * Usage: {@code java org.game.LoadTestClient [host] [port] [sessions] [gamesPerSession]}.
+ */
+public class LoadTestClient {
+
+    public record Report(long games, LatencyHistogram latencies, long elapsedNanos) {
+        @Override
+        public String toString() {
+            return String.format("games=%d requests=%d elapsed=%.2fs p50=%dus p99=%dus p99.9=%dus max=%dus",
+                    games, latencies.getCount(), elapsedNanos / 1e9,
+                    latencies.getValueAtPercentile(50) / 1_000,
+                    latencies.getValueAtPercentile(99) / 1_000,
+                    latencies.getValueAtPercentile(99.9) / 1_000,
+                    latencies.getMax() / 1_000);
+        }
+    }
+
+    private record SessionResult(long games, LatencyHistogram latencies) {
+    }
+
+    public static Report run(String host, int port, int sessions, int gamesPerSession) throws Exception {
+        long start = System.nanoTime();
+        List<Future<SessionResult>> futures = new ArrayList<>(sessions);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < sessions; i++) {
+                futures.add(executor.submit(() -> playSession(host, port, gamesPerSession)));
+            }
+        }
+
+        long games = 0;
+        LatencyHistogram latencies = new LatencyHistogram();
+        for (Future<SessionResult> future : futures) {
+            SessionResult result = future.get();
+            games += result.games();
+            latencies.add(result.latencies());
+        }
+        return new Report(games, latencies, System.nanoTime() - start);
+    }
+
+    private static SessionResult playSession(String host, int port, int games) {
+        LatencyHistogram latencies = new LatencyHistogram();
+        RandomStrategy strategy = new RandomStrategy(new SplittableRandom());
+        Board board = new Board();
+
+        try (Socket socket = new Socket(host, port);
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             BufferedWriter out = new BufferedWriter(
+                     new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII))) {
+            socket.setTcpNoDelay(true);
+
+            for (int game = 0; game < games; game++) {
+                board.clear();
+                String reply = request(in, out, "NEW", latencies);
+                char marker = 'X';
+                while (reply.endsWith(GameStatus.IN_PROGRESS.name())) {
+                    int cell = strategy.chooseMove(board, marker);
+                    reply = request(in, out, "MOVE " + cell / 3 + " " + cell % 3, latencies);
+                    if (!reply.startsWith("OK")) {
+                        throw new IllegalStateException("Server rejected move: " + reply);
+                    }
+                    board.place(cell / 3, cell % 3, marker);
+                    marker = GameEngine.opponent(marker);
+                }
+            }
+            request(in, out, "QUIT", latencies);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SessionResult(games, latencies);
+    }
+
+    private static String request(BufferedReader in, BufferedWriter out, String command,
+                                  LatencyHistogram latencies) throws IOException {
+        long start = System.nanoTime();
+        out.write(command);
+        out.newLine();
+        out.flush();
+        String reply = in.readLine();
+        latencies.record(System.nanoTime() - start);
+        if (reply == null) {
+            throw new IOException("Server closed the connection");
+        }
+        return reply;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+        int sessions = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+        int games = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+        System.out.println(run(host, port, sessions, games));
+    }
+}
@@ -1,11 +1,24 @@
 package org.game;
 
 public class Main {
+    /**
+     * Without arguments starts an interactive console game; with arguments runs a
+     * single {@link Cli} command and exits with its status.
+     */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            int status = Cli.run(args, System.out, System.err);
+            // System.exit initializes the JDK's logging on the way out; only pay for it on failure.
+            if (status != 0) {
+                System.exit(status);
+            }
+            return;
+        }
 
         System.out.println("Hello world!");
 
         TicTacToe game = new TicTacToe();
+        game.setInput(System.in);
 
         try {
             game.start();
@@ -13,4 +26,4 @@ public class Main {
             game.closeScanner();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package org.game;
+
+import java.time.Duration;
+
+/**
+ * Depth-limited negamax with alpha-beta pruning for boards of any size.
+ * Searches with iterative deepening and returns the best move of the deepest
+ * search that finished before the time budget ran out. Positions at the depth
+ * limit score as a draw, so the bot plays for forced wins and avoids forced
+ * losses within its horizon.
+ */
+public class MinimaxStrategy implements MoveStrategy {
+    private static final int WIN = 1_000_000;
+    private static final int CLOCK_CHECK_INTERVAL = 1 << 10;
+
+    /** Thrown to unwind the search when the deadline passes; shared, no stack trace. */
+    private static final RuntimeException TIMEOUT = new RuntimeException("search timed out", null, false, false) {
+    };
+
+    private final int maxDepth;
+    private final Duration timeBudget;
+    private int[][] moves = new int[0][];
+    private long deadline;
+    private long nodes;
+
+    public MinimaxStrategy(int maxDepth, Duration timeBudget) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Depth must be at least 1: " + maxDepth);
+        }
+        this.maxDepth = maxDepth;
+        this.timeBudget = timeBudget;
+    }
+
+    @Override
+    public int chooseMove(Board board, char marker) {
+        deadline = System.nanoTime() + MoveStrategy.budgetNanos(timeBudget);
+        nodes = 0;
+        int size = board.getSize();
+        int cells = size * size;
+        int depthLimit = Math.min(maxDepth, cells - board.getFilledCount());
+        if (moves.length < depthLimit + 1 || moves[0].length < cells) {
+            moves = new int[depthLimit + 1][cells];
+        }
+
+        int count = board.getOrderedMoves(moves[0]);
+        int best = moves[0][0];
+        for (int depth = 1; depth <= depthLimit; depth++) {
+            try {
+                best = searchRoot(board, marker, depth, count);
+            } catch (RuntimeException e) {
+                if (e != TIMEOUT) {
+                    throw e;
+                }
+                break;
+            }
+        }
+        return best;
+    }
+
+    private int searchRoot(Board board, char marker, int depth, int count) {
+        int size = board.getSize();
+        int best = moves[0][0];
+        int alpha = -WIN - 1;
+        for (int i = 0; i < count; i++) {
+            int cell = moves[0][i];
+            int score;
+            board.place(cell / size, cell % size, marker);
+            try {
+                score = -negamax(board, GameEngine.opponent(marker), marker, depth - 1, 1, -WIN - 1, -alpha);
+            } finally {
+                board.undo();
+            }
+            if (score > alpha) {
+                alpha = score;
+                best = cell;
+            }
+        }
+        return best;
+    }
+
+    private int negamax(Board board, char toMove, char justMoved, int depth, int ply, int alpha, int beta) {
+        if (++nodes % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+            throw TIMEOUT;
+        }
+        if (board.hasThreeInRow(justMoved)) {
+            return -(WIN - ply);
+        }
+        if (depth == 0 || board.isFull()) {
+            return 0;
+        }
+
+        int size = board.getSize();
+        int[] plyMoves = moves[ply];
+        int count = board.getOrderedMoves(plyMoves);
+        int best = -WIN - 1;
+        for (int i = 0; i < count; i++) {
+            int cell = plyMoves[i];
+            int score;
+            board.place(cell / size, cell % size, toMove);
+            try {
+                score = -negamax(board, justMoved, toMove, depth - 1, ply + 1, -beta, -alpha);
+            } finally {
+                board.undo();
+            }
+            if (score > best) {
+                best = score;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /** Nodes visited by the last {@link #chooseMove} call. */
+    public long getNodeCount() {
+        return nodes;
+    }
+
+    @Override
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+}
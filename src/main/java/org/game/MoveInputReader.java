@@ -0,0 +1,137 @@
+package org.game;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Whitespace-separated tokens read straight from a byte stream, for piping
+ * scripted games into {@link TicTacToe}. Unlike {@link java.util.Scanner} it
+ * uses no regular expressions and creates no strings: each token is copied
+ * into a reusable byte array and inspected in place.
+ * <pre>
+ * while (reader.next()) {
+ *     if (reader.isInt()) {
+ *         use(reader.intValue());
+ *     }
+ * }
+ * </pre>
+ * Only ASCII input is interpreted; other bytes are treated as token characters.
+ */
+public final class MoveInputReader implements Closeable {
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_BYTES];
+    private int position;
+    private int limit;
+    private byte[] token = new byte[16];
+    private int tokenLength;
+    private boolean isInt;
+    private int intValue;
+
+    public MoveInputReader(InputStream in) {
+        this.in = in;
+    }
+
+    /** Advances to the next token; returns false at the end of the input. */
+    public boolean next() {
+        int b;
+        do {
+            b = read();
+        } while (b >= 0 && isWhitespace(b));
+        tokenLength = 0;
+        if (b < 0) {
+            isInt = false;
+            return false;
+        }
+        while (b >= 0 && !isWhitespace(b)) {
+            if (tokenLength == token.length) {
+                token = Arrays.copyOf(token, token.length * 2);
+            }
+            token[tokenLength++] = (byte) b;
+            b = read();
+        }
+        parseInt();
+        return true;
+    }
+
+    /** Whether the current token is a decimal number that fits in an {@code int}. */
+    public boolean isInt() {
+        return isInt;
+    }
+
+    public int intValue() {
+        if (!isInt) {
+            throw new IllegalStateException("Current token is not a number");
+        }
+        return intValue;
+    }
+
+    /** The current token lower-cased if it is a single ASCII letter, otherwise 0. */
+    public char letter() {
+        if (tokenLength != 1) {
+            return 0;
+        }
+        int b = token[0] | 0x20;
+        return b >= 'a' && b <= 'z' ? (char) b : 0;
+    }
+
+    // Accumulates negatively so Integer.MIN_VALUE parses, as Scanner.nextInt does.
+    private void parseInt() {
+        isInt = false;
+        int i = 0;
+        boolean negative = false;
+        if (token[0] == '-' || token[0] == '+') {
+            negative = token[0] == '-';
+            i = 1;
+        }
+        if (i == tokenLength) {
+            return;
+        }
+        int value = 0;
+        for (; i < tokenLength; i++) {
+            int digit = token[i] - '0';
+            if (digit < 0 || digit > 9 || value < (Integer.MIN_VALUE + digit) / 10) {
+                return;
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative && value == Integer.MIN_VALUE) {
+            return;
+        }
+        intValue = negative ? value : -value;
+        isInt = true;
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == '\f' || b == 0x0B;
+    }
+
+    private int read() {
+        if (position == limit) {
+            try {
+                limit = in.read(buffer, 0, buffer.length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.game;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Chooses a move for {@code marker} on a board that still has empty cells.
+ * The returned cell index is {@code x * size + y}.
+ */
+@FunctionalInterface
+public interface MoveStrategy {
+    Duration UNLIMITED = ChronoUnit.FOREVER.getDuration();
+
+    int chooseMove(Board board, char marker);
+
+    /** Longest a single {@link #chooseMove} call may take. */
+    default Duration getTimeBudget() {
+        return UNLIMITED;
+    }
+
+    /**
+     * {@code budget} in nanoseconds, saturating at {@link Long#MAX_VALUE} for
+     * budgets such as {@link #UNLIMITED} that do not fit. Adding the result to
+     * {@link System#nanoTime()} and comparing with {@code now - deadline > 0}
+     * stays correct through the overflow.
+     */
+    static long budgetNanos(Duration budget) {
+        try {
+            return budget.toNanos();
+        } catch (ArithmeticException e) {
+            return budget.isNegative() ? 0 : Long.MAX_VALUE;
+        }
+    }
+
+    /** Whether moves come from a person at the console rather than from code. */
+    default boolean isInteractive() {
+        return false;
+    }
+}
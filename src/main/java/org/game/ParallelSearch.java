@@ -0,0 +1,364 @@
+package org.game;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Parallel alpha-beta search for boards of any size, using lazy SMP: one task
+ * per pool thread runs its own iterative-deepening negamax on a private
+ * {@link Board#copy() copy} of the position, and the tasks cooperate only
+ * through a shared lock-free transposition table. Helpers search at staggered
+ * depths and with rotated root orders, so they fill the table with entries the
+ * main task will need next.
+ * <p>
+ * Like {@link MinimaxStrategy}, positions at the depth limit score as a draw.
+ * The search stops at the depth limit or the time budget, whichever comes first,
+ * and reports the move of the deepest iteration the main task completed.
+ */
+public class ParallelSearch implements MoveStrategy {
+    private static final int WIN = 1_000_000;
+    // Scores beyond this are wins or losses, stored relative to the node in the table.
+    private static final int WIN_BOUND = WIN - 10_000;
+    private static final int CLOCK_CHECK_INTERVAL = 1 << 10;
+    // 2^16 slots of 16 bytes: 1 MB, cheap enough to allocate per strategy instance.
+    public static final int DEFAULT_TABLE_BITS = 16;
+    private static final int MAX_TABLE_BITS = 26;
+    // XORed into the table key when O is to move: the board hash alone does not say whose turn it is.
+    private static final long O_TO_MOVE = 0x9E37_79B9_7F4A_7C15L;
+
+    private static final int EXACT = 0;
+    private static final int LOWER = 1;
+    private static final int UPPER = 2;
+
+    /** Thrown to unwind a worker when the search stops; shared, no stack trace. */
+    private static final RuntimeException STOPPED = new RuntimeException("search stopped", null, false, false) {
+    };
+
+    /**
+     * Outcome of one {@link #search}: the best move (x * size + y, or -1 when the
+     * game is over), its score for the side to move, the deepest completed
+     * iteration and the nodes visited by all threads.
+     */
+    public record Result(int move, int score, int depth, long nodes, long elapsedNanos) {
+        public double nodesPerSecond() {
+            return elapsedNanos == 0 ? 0 : nodes * 1e9 / elapsedNanos;
+        }
+    }
+
+    private final int maxDepth;
+    private final Duration timeBudget;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+
+    public ParallelSearch(int maxDepth, Duration timeBudget) {
+        this(maxDepth, timeBudget, ForkJoinPool.commonPool());
+    }
+
+    public ParallelSearch(int maxDepth, Duration timeBudget, ForkJoinPool pool) {
+        this(maxDepth, timeBudget, pool, DEFAULT_TABLE_BITS);
+    }
+
+    /**
+     * A search with a transposition table of {@code 2^tableBits} entries, 16 bytes
+     * each; long searches on large boards benefit from more than the default.
+     */
+    public ParallelSearch(int maxDepth, Duration timeBudget, ForkJoinPool pool, int tableBits) {
+        if (maxDepth < 1) {
+            throw new IllegalArgumentException("Depth must be at least 1: " + maxDepth);
+        }
+        if (tableBits < 1 || tableBits > MAX_TABLE_BITS) {
+            throw new IllegalArgumentException("Table bits must be 1 to " + MAX_TABLE_BITS + ": " + tableBits);
+        }
+        this.maxDepth = maxDepth;
+        this.timeBudget = timeBudget;
+        this.pool = pool;
+        table = new TranspositionTable(tableBits);
+    }
+
+    @Override
+    public int chooseMove(Board board, char marker) {
+        return search(board, marker).move();
+    }
+
+    /** Searches the position for {@code marker}; {@code board} itself is not modified. */
+    public Result search(Board board, char marker) {
+        long start = System.nanoTime();
+        if (board.status() != GameStatus.IN_PROGRESS) {
+            return new Result(-1, 0, 0, 0, 0);
+        }
+        int cells = board.getSize() * board.getSize();
+        int depthLimit = Math.min(maxDepth, cells - board.getFilledCount());
+        Search search = new Search(start + MoveStrategy.budgetNanos(timeBudget));
+
+        int threads = Math.max(1, pool.getParallelism());
+        Worker[] workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            workers[i] = new Worker(search, i, board.copy(), marker, depthLimit);
+        }
+        for (Worker worker : workers) {
+            pool.execute(worker);
+        }
+        for (Worker worker : workers) {
+            worker.join();
+        }
+
+        Worker main = workers[0];
+        long nodes = 0;
+        for (Worker worker : workers) {
+            nodes += worker.nodes;
+        }
+        return new Result(main.bestMove, main.bestScore, main.completedDepth, nodes, System.nanoTime() - start);
+    }
+
+    /** Forgets all transposition table entries, e.g. between unrelated games. */
+    public void clearTable() {
+        table.clear();
+    }
+
+    @Override
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+
+    // State shared by the workers of one search.
+    private static final class Search {
+        final long deadline;
+        volatile boolean stopped;
+
+        Search(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+    private final class Worker extends RecursiveAction {
+        private final Search search;
+        private final int id;
+        private final Board board;
+        private final char marker;
+        private final int depthLimit;
+        private final int size;
+        // Zobrist keys are shared between board sizes, so the table key also encodes the board's rules.
+        private final long rulesKey;
+        private final int[][] moves;
+        long nodes;
+        int bestMove = -1;
+        int bestScore;
+        int completedDepth;
+
+        Worker(Search search, int id, Board board, char marker, int depthLimit) {
+            this.search = search;
+            this.id = id;
+            this.board = board;
+            this.marker = marker;
+            this.depthLimit = depthLimit;
+            this.size = board.getSize();
+            this.rulesKey = PositionCache.mix((long) size << 32 | board.getWinLength());
+            this.moves = new int[depthLimit + 1][size * size];
+        }
+
+        @Override
+        protected void compute() {
+            if (search.stopped) {
+                return;
+            }
+            int count = board.getOrderedMoves(moves[0]);
+            bestMove = moves[0][0];
+            // Helpers rotate the root order and half of them run one iteration ahead.
+            if (id > 0) {
+                rotate(moves[0], count, id % count);
+            }
+            try {
+                for (int depth = 1 + (id & 1); depth <= depthLimit; depth++) {
+                    searchRoot(depth, count);
+                    completedDepth = depth;
+                    if (Math.abs(bestScore) > WIN_BOUND) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                if (e != STOPPED) {
+                    throw e;
+                }
+            }
+            if (id == 0) {
+                search.stopped = true;
+            }
+        }
+
+        private void searchRoot(int depth, int count) {
+            int[] rootMoves = moves[0];
+            long hash = tableKey(marker);
+            int hashMove = TranspositionTable.move(table.probe(hash));
+            promote(rootMoves, count, hashMove);
+
+            int alpha = -WIN - 1;
+            int best = rootMoves[0];
+            for (int i = 0; i < count; i++) {
+                int cell = rootMoves[i];
+                board.place(cell / size, cell % size, marker);
+                int score;
+                try {
+                    score = -negamax(GameEngine.opponent(marker), marker, depth - 1, 1, -WIN - 1, -alpha);
+                } finally {
+                    board.undo();
+                }
+                if (score > alpha) {
+                    alpha = score;
+                    best = cell;
+                }
+            }
+            bestMove = best;
+            bestScore = alpha;
+            table.store(hash, best, depth, EXACT, alpha);
+        }
+
+        private long tableKey(char toMove) {
+            long key = board.getHash() ^ rulesKey;
+            return toMove == 'O' ? key ^ O_TO_MOVE : key;
+        }
+
+        private int negamax(char toMove, char justMoved, int depth, int ply, int alpha, int beta) {
+            if (++nodes % CLOCK_CHECK_INTERVAL == 0
+                    && (search.stopped || System.nanoTime() - search.deadline > 0)) {
+                search.stopped = true;
+                throw STOPPED;
+            }
+            if (board.hasThreeInRow(justMoved)) {
+                return -(WIN - ply);
+            }
+            if (depth == 0 || board.isFull()) {
+                return 0;
+            }
+
+            long hash = tableKey(toMove);
+            long entry = table.probe(hash);
+            int hashMove = TranspositionTable.move(entry);
+            if (entry != TranspositionTable.EMPTY && TranspositionTable.depth(entry) >= depth) {
+                int score = fromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == EXACT || bound == LOWER && score >= beta || bound == UPPER && score <= alpha) {
+                    return score;
+                }
+            }
+
+            int[] plyMoves = moves[ply];
+            int count = board.getOrderedMoves(plyMoves);
+            promote(plyMoves, count, hashMove);
+            int originalAlpha = alpha;
+            int best = -WIN - 1;
+            int bestCell = plyMoves[0];
+            for (int i = 0; i < count; i++) {
+                int cell = plyMoves[i];
+                board.place(cell / size, cell % size, toMove);
+                int score;
+                try {
+                    score = -negamax(justMoved, toMove, depth - 1, ply + 1, -beta, -alpha);
+                } finally {
+                    board.undo();
+                }
+                if (score > best) {
+                    best = score;
+                    bestCell = cell;
+                }
+                if (score > alpha) {
+                    alpha = score;
+                }
+                if (alpha >= beta) {
+                    break;
+                }
+            }
+            int bound = best <= originalAlpha ? UPPER : best >= beta ? LOWER : EXACT;
+            table.store(hash, bestCell, depth, bound, toTable(best, ply));
+            return best;
+        }
+    }
+
+    // Win and loss scores count plies from the root; the table stores them counted from the node.
+    private static int toTable(int score, int ply) {
+        return score > WIN_BOUND ? score + ply : score < -WIN_BOUND ? score - ply : score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        return score > WIN_BOUND ? score - ply : score < -WIN_BOUND ? score + ply : score;
+    }
+
+    // Moves the hash move, if present, to the front without disturbing the rest of the order.
+    private static void promote(int[] moves, int count, int move) {
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == move) {
+                System.arraycopy(moves, 0, moves, 1, i);
+                moves[0] = move;
+                return;
+            }
+        }
+    }
+
+    private static void rotate(int[] moves, int count, int by) {
+        int[] rotated = new int[count];
+        for (int i = 0; i < count; i++) {
+            rotated[i] = moves[(i + by) % count];
+        }
+        System.arraycopy(rotated, 0, moves, 0, count);
+    }
+
+    /**
+     * Always-replace hash table shared by all workers without locks. Each slot is
+     * two longs, the key XOR the data and the data, written and read with opaque
+     * (untorn) accesses; a slot torn by a concurrent writer fails the key check
+     * and reads as empty, as in Hyatt's lockless hashing.
+     */
+    static final class TranspositionTable {
+        static final long EMPTY = 0;
+
+        private final AtomicLongArray slots;
+        private final int mask;
+
+        TranspositionTable(int bits) {
+            slots = new AtomicLongArray(2 << bits);
+            mask = (1 << bits) - 1;
+        }
+
+        // Data: bits 0-31 score, 32-33 bound, 34-41 depth, 42-61 move + 1, so 0 is never valid data.
+        static long pack(int move, int depth, int bound, int score) {
+            return (long) (move + 1) << 42 | (long) depth << 34 | (long) bound << 32 | (score & 0xFFFF_FFFFL);
+        }
+
+        static int move(long data) {
+            return (int) (data >>> 42) - 1;
+        }
+
+        static int depth(long data) {
+            return (int) (data >>> 34) & 0xFF;
+        }
+
+        static int bound(long data) {
+            return (int) (data >>> 32) & 0b11;
+        }
+
+        static int score(long data) {
+            return (int) data;
+        }
+
+        /** The data stored for {@code hash}, or {@link #EMPTY}. */
+        long probe(long hash) {
+            int slot = ((int) PositionCache.mix(hash) & mask) << 1;
+            long data = slots.getOpaque(slot + 1);
+            return (slots.getOpaque(slot) ^ data) == hash ? data : EMPTY;
+        }
+
+        void store(long hash, int move, int depth, int bound, int score) {
+            int slot = ((int) PositionCache.mix(hash) & mask) << 1;
+            long data = pack(move, Math.min(depth, 0xFF), bound, score);
+            slots.setOpaque(slot, hash ^ data);
+            slots.setOpaque(slot + 1, data);
+        }
+
+        void clear() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.setOpaque(i, 0);
+            }
+        }
+    }
+}
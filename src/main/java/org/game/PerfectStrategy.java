@@ -0,0 +1,34 @@
+package org.game;
+
+import java.time.Duration;
+
+/**
+ * Perfect play on the 3x3 board through {@link Solver}. The solver is warmed up
+ * by solving the empty board when the strategy is created; its table is keyed
+ * by the side to move rather than by marker, so that covers games started by
+ * either player and every move is a table lookup afterwards.
+ */
+public class PerfectStrategy implements MoveStrategy {
+    private static final Duration TIME_BUDGET = Duration.ofNanos(50_000);
+
+    private final Solver solver;
+
+    public PerfectStrategy() {
+        this(new Solver());
+    }
+
+    public PerfectStrategy(Solver solver) {
+        this.solver = solver;
+        solver.evaluate(new Board(), 'X');
+    }
+
+    @Override
+    public int chooseMove(Board board, char marker) {
+        return solver.bestMove(board, marker);
+    }
+
+    @Override
+    public Duration getTimeBudget() {
+        return TIME_BUDGET;
+    }
+}
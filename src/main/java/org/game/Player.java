@@ -2,13 +2,35 @@ package org.game;
 
 public class Player {
     private char marker;
+    private MoveStrategy strategy;
 
     public Player(char marker) {
+        this(marker, null);
+    }
+
+    public Player(char marker, MoveStrategy strategy) {
         this.marker = marker;
+        this.strategy = strategy;
     }
 
     public char getMarker() {
         return marker;
     }
 
+    public MoveStrategy getStrategy() {
+        return strategy;
+    }
+
+    public boolean isInteractive() {
+        return strategy != null && strategy.isInteractive();
+    }
+
+    /** Asks this player's strategy for a cell (x * size + y) to play on {@code board}. */
+    public int chooseMove(Board board) {
+        if (strategy == null) {
+            throw new IllegalStateException("Player " + marker + " has no move strategy");
+        }
+        return strategy.chooseMove(board, marker);
+    }
+
 }
@@ -0,0 +1,383 @@
+package org.game;
+
+import java.util.function.LongToIntFunction;
+
+/**
+ * Size-bounded cache of per-position analysis results, keyed by a 64-bit
+ * position key (typically {@link Board#getCanonicalHash()}) and holding an
+ * {@code int} result, e.g. a packed score and move.
+ * <p>
+ * The cache is split into lock-striped segments, so concurrent readers only
+ * contend when they hit the same segment. Each segment stores its entries in
+ * primitive arrays with an open-addressing index and intrusive recency lists, so
+ * lookups and inserts do not allocate. Two eviction policies are available:
+ * <ul>
+ *     <li>{@link EvictionPolicy#LRU} evicts the least recently used entry.</li>
+ *     <li>{@link EvictionPolicy#TINY_LFU} (W-TinyLFU) puts new entries in a small
+ *     LRU window; entries leaving the window only replace the main region's LRU
+ *     victim if a count-min sketch says they are used more often. This keeps
+ *     heavily repeated positions, such as openings, from being flushed by
+ *     one-off positions.</li>
+ * </ul>
+ */
+public class PositionCache {
+    public enum EvictionPolicy {
+        LRU,
+        TINY_LFU
+    }
+
+    /** Returned by {@link #get} when the key is not cached. */
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    private final Segment[] segments;
+    private final int capacity;
+
+    public PositionCache(int capacity, EvictionPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        int count = Math.max(1, Math.min(16, Integer.highestOneBit(capacity / 64)));
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(capacity / count + (i < capacity % count ? 1 : 0), policy);
+        }
+    }
+
+    static long mix(long key) {
+        key = (key ^ (key >>> 33)) * 0xFF51AFD7ED558CCDL;
+        key = (key ^ (key >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return key ^ (key >>> 33);
+    }
+
+    private Segment segmentFor(long hash) {
+        return segments[(int) (hash >>> 60) & (segments.length - 1)];
+    }
+
+    /** Returns the cached value for {@code key}, or {@link #MISSING}. */
+    public int get(long key) {
+        long hash = mix(key);
+        return segmentFor(hash).get(key, hash);
+    }
+
+    /** Caches {@code value}, which must not be {@link #MISSING}, for {@code key}. */
+    public void put(long key, int value) {
+        if (value == MISSING) {
+            throw new IllegalArgumentException("MISSING cannot be cached");
+        }
+        long hash = mix(key);
+        segmentFor(hash).put(key, hash, value);
+    }
+
+    /**
+     * Returns the cached value, computing and caching it on a miss. The loader runs
+     * outside the segment lock, so two threads missing the same key at once may
+     * both compute it.
+     */
+    public int computeIfAbsent(long key, LongToIntFunction loader) {
+        int value = get(key);
+        if (value == MISSING) {
+            value = loader.applyAsInt(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public long getHitCount() {
+        long total = 0;
+        for (Segment segment : segments) {
+            total += segment.hits();
+        }
+        return total;
+    }
+
+    public long getMissCount() {
+        long total = 0;
+        for (Segment segment : segments) {
+            total += segment.misses();
+        }
+        return total;
+    }
+
+    public long getEvictionCount() {
+        long total = 0;
+        for (Segment segment : segments) {
+            total += segment.evictions();
+        }
+        return total;
+    }
+
+    private static final class Segment {
+        private static final int NONE = -1;
+        private static final int WINDOW = 0;
+        private static final int MAIN = 1;
+
+        private final int capacity;
+        private final int windowCapacity;
+        private final FrequencySketch sketch;
+
+        // Entry slots; a slot never moves while its entry is cached.
+        private final long[] keys;
+        private final int[] values;
+        private final int[] prev;
+        private final int[] next;
+        private final byte[] region;
+        private final int[] freeSlots;
+        private int freeCount;
+
+        // Open-addressing index from key to slot + 1 (0 = empty), linear probing.
+        private final int[] index;
+        private final int indexMask;
+
+        // Recency lists, most recent at the head.
+        private final int[] head = {NONE, NONE};
+        private final int[] tail = {NONE, NONE};
+        private final int[] listSize = new int[2];
+
+        private long hits;
+        private long misses;
+        private long evictions;
+
+        Segment(int capacity, EvictionPolicy policy) {
+            this.capacity = capacity;
+            boolean tinyLfu = policy == EvictionPolicy.TINY_LFU && capacity > 1;
+            windowCapacity = tinyLfu ? Math.max(1, capacity / 100) : 0;
+            sketch = tinyLfu ? new FrequencySketch(capacity) : null;
+
+            int slots = capacity + 1;
+            keys = new long[slots];
+            values = new int[slots];
+            prev = new int[slots];
+            next = new int[slots];
+            region = new byte[slots];
+            freeSlots = new int[slots];
+            for (int i = 0; i < slots; i++) {
+                freeSlots[freeCount++] = slots - 1 - i;
+            }
+            int indexSize = Integer.highestOneBit(Math.max(2, slots * 2 - 1)) << 1;
+            index = new int[indexSize];
+            indexMask = indexSize - 1;
+        }
+
+        synchronized int get(long key, long hash) {
+            if (sketch != null) {
+                sketch.increment(hash);
+            }
+            int slot = find(key, hash);
+            if (slot == NONE) {
+                misses++;
+                return MISSING;
+            }
+            hits++;
+            moveToHead(slot);
+            return values[slot];
+        }
+
+        synchronized void put(long key, long hash, int value) {
+            int slot = find(key, hash);
+            if (slot != NONE) {
+                values[slot] = value;
+                moveToHead(slot);
+                return;
+            }
+
+            if (sketch == null) {
+                if (listSize[MAIN] == capacity) {
+                    evict(tail[MAIN]);
+                }
+                link(insert(key, hash, value), MAIN);
+                return;
+            }
+
+            sketch.increment(hash);
+            link(insert(key, hash, value), WINDOW);
+            if (listSize[WINDOW] <= windowCapacity) {
+                return;
+            }
+            int candidate = tail[WINDOW];
+            unlink(candidate);
+            if (listSize[MAIN] < capacity - windowCapacity) {
+                link(candidate, MAIN);
+                return;
+            }
+            int victim = tail[MAIN];
+            if (sketch.frequency(mix(keys[candidate])) > sketch.frequency(mix(keys[victim]))) {
+                evict(victim);
+                link(candidate, MAIN);
+            } else {
+                release(candidate);
+                evictions++;
+            }
+        }
+
+        synchronized int size() {
+            return listSize[WINDOW] + listSize[MAIN];
+        }
+
+        synchronized long hits() {
+            return hits;
+        }
+
+        synchronized long misses() {
+            return misses;
+        }
+
+        synchronized long evictions() {
+            return evictions;
+        }
+
+        private int find(long key, long hash) {
+            for (int i = (int) hash & indexMask; index[i] != 0; i = (i + 1) & indexMask) {
+                int slot = index[i] - 1;
+                if (keys[slot] == key) {
+                    return slot;
+                }
+            }
+            return NONE;
+        }
+
+        private int insert(long key, long hash, int value) {
+            int slot = freeSlots[--freeCount];
+            keys[slot] = key;
+            values[slot] = value;
+            int i = (int) hash & indexMask;
+            while (index[i] != 0) {
+                i = (i + 1) & indexMask;
+            }
+            index[i] = slot + 1;
+            return slot;
+        }
+
+        private void evict(int slot) {
+            unlink(slot);
+            release(slot);
+            evictions++;
+        }
+
+        // Removes the slot from the index (backward-shift deletion) and frees it.
+        private void release(int slot) {
+            int i = (int) mix(keys[slot]) & indexMask;
+            while (index[i] != slot + 1) {
+                i = (i + 1) & indexMask;
+            }
+            for (int j = (i + 1) & indexMask; index[j] != 0; j = (j + 1) & indexMask) {
+                int home = (int) mix(keys[index[j] - 1]) & indexMask;
+                boolean stays = i <= j ? (i < home && home <= j) : (i < home || home <= j);
+                if (!stays) {
+                    index[i] = index[j];
+                    i = j;
+                }
+            }
+            index[i] = 0;
+            freeSlots[freeCount++] = slot;
+        }
+
+        private void link(int slot, int list) {
+            region[slot] = (byte) list;
+            prev[slot] = NONE;
+            next[slot] = head[list];
+            if (head[list] != NONE) {
+                prev[head[list]] = slot;
+            } else {
+                tail[list] = slot;
+            }
+            head[list] = slot;
+            listSize[list]++;
+        }
+
+        private void unlink(int slot) {
+            int list = region[slot];
+            if (prev[slot] != NONE) {
+                next[prev[slot]] = next[slot];
+            } else {
+                head[list] = next[slot];
+            }
+            if (next[slot] != NONE) {
+                prev[next[slot]] = prev[slot];
+            } else {
+                tail[list] = prev[slot];
+            }
+            listSize[list]--;
+        }
+
+        private void moveToHead(int slot) {
+            if (head[region[slot]] != slot) {
+                int list = region[slot];
+                unlink(slot);
+                link(slot, list);
+            }
+        }
+    }
+
+    /**
+     * Count-min sketch with four rows of saturating 4-bit counters packed into
+     * longs. All counters are halved once enough increments have been seen, so old
+     * popularity fades.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0x97CB3127L, 0xC3A5C85CL, 0x9E3779B9L, 0xBF58476DL
+        };
+        private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            int size = Integer.highestOneBit(Math.max(8, capacity - 1)) << 1;
+            table = new long[size];
+            tableMask = size - 1;
+            sampleSize = 10 * Math.max(capacity, 16);
+        }
+
+        private int indexOf(long hash, int row) {
+            return (int) mix(hash + SEEDS[row]) & tableMask;
+        }
+
+        // Row r uses the 4-bit counter at nibble r * 4 + (hash bits) within its word.
+        private int offsetOf(long hash, int row) {
+            return (row << 2 | (int) (hash >>> (row << 3)) & 3) << 2;
+        }
+
+        int frequency(long hash) {
+            int min = 15;
+            for (int row = 0; row < 4; row++) {
+                int count = (int) (table[indexOf(hash, row)] >>> offsetOf(hash, row)) & 0xF;
+                min = Math.min(min, count);
+            }
+            return min;
+        }
+
+        void increment(long hash) {
+            boolean added = false;
+            for (int row = 0; row < 4; row++) {
+                int i = indexOf(hash, row);
+                int offset = offsetOf(hash, row);
+                if (((table[i] >>> offset) & 0xF) != 0xF) {
+                    table[i] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & RESET_MASK;
+                }
+                additions /= 2;
+            }
+        }
+    }
+}
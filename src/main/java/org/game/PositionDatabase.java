@@ -0,0 +1,217 @@
+package org.game;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only table of every 3x3 position reachable with X moving first (5,478
+ * of them), with its solved score and all optimal moves.
+ * <p>
+ * The table lives in a small binary file indexed by the base-3 encoding of the
+ * position. The file is memory-mapped, so opening it is constant time, lookups
+ * are plain reads from the mapping, and processes on the same host share one
+ * copy through the page cache.
+ */
+public class PositionDatabase {
+    private static final int MAGIC = 0x54545444; // "TTTD"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 12;
+    static final int POSITIONS = 19_683; // 3^9
+
+    // Entry layout (short): bit 14 set for reachable positions, bits 9-13 score + 16, bits 0-8 optimal moves.
+    private static final int PRESENT = 1 << 14;
+
+    // TERNARY[mask] is the sum of 3^cell over the bits of mask.
+    private static final int[] TERNARY = new int[1 << 9];
+
+    static {
+        for (int mask = 1; mask < TERNARY.length; mask++) {
+            int cell = Integer.numberOfTrailingZeros(mask);
+            TERNARY[mask] = TERNARY[mask & (mask - 1)] + pow3(cell);
+        }
+    }
+
+    private final ByteBuffer buffer;
+
+    private PositionDatabase(ByteBuffer buffer, String source) {
+        if (buffer.capacity() != HEADER_BYTES + POSITIONS * 2
+                || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != POSITIONS) {
+            throw new IllegalStateException("Not a position database: " + source);
+        }
+        this.buffer = buffer;
+    }
+
+    /** Default file shared by every process on the host: {@code tictactoe-positions.bin} in the temp directory. */
+    public static Path defaultPath() {
+        return Path.of(System.getProperty("java.io.tmpdir"), "tictactoe-positions.bin");
+    }
+
+    public static PositionDatabase openDefault() {
+        return openOrGenerate(defaultPath());
+    }
+
+    /** Maps {@code file}, generating it first if it does not exist yet. */
+    public static PositionDatabase openOrGenerate(Path file) {
+        if (!Files.exists(file)) {
+            generate(file);
+        }
+        return open(file);
+    }
+
+    public static PositionDatabase open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            return new PositionDatabase(buffer, file.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads a table, e.g. one bundled as a class path resource, into the heap.
+     * The table is only 39 KB, and for short-lived processes copying it is
+     * cheaper than setting up a memory mapping.
+     */
+    public static PositionDatabase read(InputStream in) {
+        try {
+            return new PositionDatabase(ByteBuffer.wrap(in.readAllBytes()), "stream");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Solves every reachable position and writes the table to {@code file}. The
+     * file is written next to the target and moved into place, so concurrent
+     * readers never see a partial table.
+     */
+    public static void generate(Path file) {
+        short[] entries = new short[POSITIONS];
+        fill(new Solver(), entries, 0, 0, 'X');
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + POSITIONS * 2);
+        out.putInt(MAGIC).putInt(VERSION).putInt(POSITIONS);
+        for (short entry : entries) {
+            out.putShort(entry);
+        }
+        out.flip();
+
+        try {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, "positions", ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void fill(Solver solver, short[] entries, int xMask, int oMask, char toMove) {
+        int index = index(xMask, oMask);
+        if (entries[index] != 0) {
+            return;
+        }
+
+        Board board = toBoard(xMask, oMask);
+        int score = solver.evaluate(board, toMove);
+        int bestMoves = 0;
+        boolean over = Board.hasLine(xMask) || Board.hasLine(oMask) || (xMask | oMask) == Board.FULL_MASK;
+
+        if (!over) {
+            char next = GameEngine.opponent(toMove);
+            for (int cell = 0; cell < 9; cell++) {
+                int bit = 1 << cell;
+                if (((xMask | oMask) & bit) != 0) {
+                    continue;
+                }
+                int childX = toMove == 'X' ? xMask | bit : xMask;
+                int childO = toMove == 'O' ? oMask | bit : oMask;
+                if (-solver.evaluate(toBoard(childX, childO), next) == score) {
+                    bestMoves |= bit;
+                }
+                fill(solver, entries, childX, childO, next);
+            }
+        }
+        entries[index] = (short) (PRESENT | (score + 16) << 9 | bestMoves);
+    }
+
+    private static Board toBoard(int xMask, int oMask) {
+        Board board = new Board();
+        for (int cell = 0; cell < 9; cell++) {
+            if ((xMask & (1 << cell)) != 0) {
+                board.place(cell / 3, cell % 3, 'X');
+            } else if ((oMask & (1 << cell)) != 0) {
+                board.place(cell / 3, cell % 3, 'O');
+            }
+        }
+        return board;
+    }
+
+    private static int pow3(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 3;
+        }
+        return result;
+    }
+
+    /** Base-3 index of a position: cell c contributes 3^c for X and 2 * 3^c for O. */
+    static int index(int xMask, int oMask) {
+        return TERNARY[xMask] + 2 * TERNARY[oMask];
+    }
+
+    private int entry(Board board) {
+        if (board.getSize() != 3 || board.getWinLength() != 3) {
+            throw new IllegalArgumentException("Position database only covers the 3x3 board");
+        }
+        return buffer.getShort(HEADER_BYTES + index(board.getXMask(), board.getOMask()) * 2);
+    }
+
+    /** Returns whether the position can arise in a game where X moves first. */
+    public boolean contains(Board board) {
+        return (entry(board) & PRESENT) != 0;
+    }
+
+    /**
+     * Score for the side to move, as {@link Solver#evaluate}: positive wins, zero
+     * draws, negative loses.
+     */
+    public int score(Board board) {
+        int entry = requireEntry(board);
+        return ((entry >> 9) & 0x1F) - 16;
+    }
+
+    /** Bit mask of all optimal cells (bit x * 3 + y), 0 when the game is over. */
+    public int bestMoves(Board board) {
+        return requireEntry(board) & 0x1FF;
+    }
+
+    /** One optimal cell (x * 3 + y), or -1 when the game is over. */
+    public int bestMove(Board board) {
+        int moves = bestMoves(board);
+        return moves == 0 ? -1 : Integer.numberOfTrailingZeros(moves);
+    }
+
+    private int requireEntry(Board board) {
+        int entry = entry(board);
+        if ((entry & PRESENT) == 0) {
+            throw new IllegalArgumentException("Position is not reachable with X moving first");
+        }
+        return entry;
+    }
+}
@@ -0,0 +1,262 @@
+package org.game;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Growable list of 3x3 positions kept off the Java heap, for analysis datasets
+ * of billions of positions. Each position is stored in two bytes as its base-3
+ * index (see {@link PositionDatabase}), in memory allocated from a shared
+ * {@link Arena}, so the heap holds the same few objects whatever the size of
+ * the dataset. A billion positions take 2 GB of native memory.
+ * <p>
+ * Appending is single-threaded and must not overlap reads. Once filled, a store
+ * can be read from any number of threads, and {@link #scan} visits it in
+ * parallel on a ForkJoin pool. Stores are saved as a header followed by the
+ * little-endian codes, written next to the target and moved into place.
+ * {@link #close()} frees the native memory; the store must not be used after.
+ */
+public final class PositionStore implements AutoCloseable {
+    private static final int MAGIC = 0x54545450; // "TTTP"
+    private static final int VERSION = 1;
+    // Magic, version and a long position count.
+    private static final int HEADER_BYTES = 16;
+    private static final ValueLayout.OfShort CODE = ValueLayout.JAVA_SHORT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final long DEFAULT_CAPACITY = 1 << 16;
+    private static final long MIN_CHUNK = 1 << 16;
+    // File transfers go through ByteBuffer views, which are limited to 2 GB each.
+    private static final long IO_CHUNK_BYTES = 1 << 30;
+
+    // MASKS[code] is xMask << 9 | oMask for the position with that base-3 index.
+    private static final int[] MASKS = new int[PositionDatabase.POSITIONS];
+
+    static {
+        for (int code = 0; code < MASKS.length; code++) {
+            int xMask = 0;
+            int oMask = 0;
+            int rest = code;
+            for (int cell = 0; cell < 9; cell++, rest /= 3) {
+                int digit = rest % 3;
+                xMask |= digit == 1 ? 1 << cell : 0;
+                oMask |= digit == 2 ? 1 << cell : 0;
+            }
+            MASKS[code] = xMask << 9 | oMask;
+        }
+    }
+
+    /** Receives positions during a {@link #scan}; the results of all calls are summed. */
+    @FunctionalInterface
+    public interface Visitor {
+        long visit(long index, int xMask, int oMask);
+    }
+
+    private Arena arena;
+    private MemorySegment codes;
+    private long count;
+
+    public PositionStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /** An empty store with room for {@code capacity} positions before it has to grow. */
+    public PositionStore(long capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        arena = Arena.ofShared();
+        codes = arena.allocate(capacity * 2, 2);
+    }
+
+    /** Appends the position of a 3x3 {@code board} and returns its index. */
+    public long append(Board board) {
+        if (board.getSize() != 3 || board.getWinLength() != 3) {
+            throw new IllegalArgumentException("Position store only holds 3x3 positions");
+        }
+        return append(board.getXMask(), board.getOMask());
+    }
+
+    /** Appends the position with the given cell masks (bit x * 3 + y) and returns its index. */
+    public long append(int xMask, int oMask) {
+        if (((xMask | oMask) & ~Board.FULL_MASK) != 0 || (xMask & oMask) != 0) {
+            throw new IllegalArgumentException("Not a 3x3 position: " + xMask + ", " + oMask);
+        }
+        if (count * 2 == codes.byteSize()) {
+            grow();
+        }
+        codes.setAtIndex(CODE, count, (short) PositionDatabase.index(xMask, oMask));
+        return count++;
+    }
+
+    // Doubles the capacity into a fresh arena and frees the old memory.
+    private void grow() {
+        Arena larger = Arena.ofShared();
+        MemorySegment copy = larger.allocate(codes.byteSize() * 2, 2);
+        MemorySegment.copy(codes, 0, copy, 0, count * 2);
+        arena.close();
+        arena = larger;
+        codes = copy;
+    }
+
+    public long size() {
+        return count;
+    }
+
+    /** Base-3 index of position {@code index}, as used by {@link PositionDatabase}. */
+    public int code(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Position " + index + " of " + count);
+        }
+        return codes.getAtIndex(CODE, index);
+    }
+
+    public int xMask(long index) {
+        return MASKS[code(index)] >>> 9;
+    }
+
+    public int oMask(long index) {
+        return MASKS[code(index)] & Board.FULL_MASK;
+    }
+
+    /** Position {@code index} on a new {@link Board}; prefer the masks for bulk work. */
+    public Board get(long index) {
+        int masks = MASKS[code(index)];
+        Board board = new Board();
+        for (int cell = 0; cell < 9; cell++) {
+            if ((masks & 1 << (cell + 9)) != 0) {
+                board.place(cell / 3, cell % 3, 'X');
+            } else if ((masks & 1 << cell) != 0) {
+                board.place(cell / 3, cell % 3, 'O');
+            }
+        }
+        return board;
+    }
+
+    public long scan(Visitor visitor) {
+        return scan(visitor, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calls {@code visitor} for every position, split into chunks that run in
+     * parallel on {@code pool}, and returns the sum of its results. The visitor
+     * is called from several threads at once.
+     */
+    public long scan(Visitor visitor, ForkJoinPool pool) {
+        long chunk = Math.max(MIN_CHUNK, count / (pool.getParallelism() * 8L));
+        return pool.invoke(new Scan(visitor, 0, count, chunk));
+    }
+
+    private final class Scan extends RecursiveTask<Long> {
+        private final Visitor visitor;
+        private final long from;
+        private final long to;
+        private final long chunk;
+
+        Scan(Visitor visitor, long from, long to, long chunk) {
+            this.visitor = visitor;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= chunk) {
+                MemorySegment segment = codes;
+                long sum = 0;
+                for (long i = from; i < to; i++) {
+                    int masks = MASKS[segment.getAtIndex(CODE, i)];
+                    sum += visitor.visit(i, masks >>> 9, masks & Board.FULL_MASK);
+                }
+                return sum;
+            }
+            long middle = (from + to) >>> 1;
+            Scan right = new Scan(visitor, middle, to, chunk);
+            right.fork();
+            long left = new Scan(visitor, from, middle, chunk).compute();
+            return left + right.join();
+        }
+    }
+
+    /** Writes the store to {@code file}, replacing it atomically. */
+    public void save(Path file) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putLong(count).flip();
+        try {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, "positions", ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                writeFully(channel, header);
+                for (long offset = 0; offset < count * 2; offset += IO_CHUNK_BYTES) {
+                    long length = Math.min(IO_CHUNK_BYTES, count * 2 - offset);
+                    writeFully(channel, codes.asSlice(offset, length).asByteBuffer());
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /** Reads a store written by {@link #save} into native memory. */
+    public static PositionStore load(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            if (channel.size() >= HEADER_BYTES) {
+                readFully(channel, header);
+            }
+            long count = header.getInt(0) == MAGIC && header.getInt(4) == VERSION ? header.getLong(8) : -1;
+            if (count < 0 || channel.size() != HEADER_BYTES + count * 2) {
+                throw new IllegalStateException("Not a position store: " + file);
+            }
+
+            PositionStore store = new PositionStore(Math.max(1, count));
+            try {
+                for (long offset = 0; offset < count * 2; offset += IO_CHUNK_BYTES) {
+                    long length = Math.min(IO_CHUNK_BYTES, count * 2 - offset);
+                    readFully(channel, store.codes.asSlice(offset, length).asByteBuffer());
+                }
+            } catch (IOException | RuntimeException e) {
+                store.close();
+                throw e;
+            }
+            store.count = count;
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Position store ends early");
+            }
+        }
+    }
+
+    /** Frees the native memory. */
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
@@ -0,0 +1,49 @@
+package org.game;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+/**
+ * Picks a uniformly random empty cell. Each instance owns its generator, so
+ * give every thread its own instance.
+ */
+public class RandomStrategy implements MoveStrategy {
+    private static final Duration TIME_BUDGET = Duration.ofNanos(10_000);
+
+    private final SplittableRandom random;
+    private int[] moves = new int[0];
+
+    public RandomStrategy() {
+        this(new SplittableRandom());
+    }
+
+    public RandomStrategy(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public int chooseMove(Board board, char marker) {
+        int size = board.getSize();
+        int cells = size * size;
+        int skip = random.nextInt(cells - board.getFilledCount());
+
+        if (cells <= 64) {
+            long empty = board.getLegalMoves();
+            for (; skip > 0; skip--) {
+                empty &= empty - 1;
+            }
+            return Long.numberOfTrailingZeros(empty);
+        }
+
+        if (moves.length < cells) {
+            moves = new int[cells];
+        }
+        board.getLegalMoves(moves);
+        return moves[skip];
+    }
+
+    @Override
+    public Duration getTimeBudget() {
+        return TIME_BUDGET;
+    }
+}
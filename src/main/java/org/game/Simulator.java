@@ -0,0 +1,113 @@
+package org.game;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays batches of headless games between two strategies on a ForkJoin pool.
+ * <p>
+ * The batch is split into chunks; every chunk gets its own {@link GameEngine},
+ * its own strategy instances (and therefore its own random generators) and its
+ * own counters. Counters are only combined when chunks join, so workers never
+ * write to shared state while playing.
+ */
+public class Simulator {
+    private static final long MIN_CHUNK = 10_000;
+
+    public record Result(long xWins, long oWins, long draws) {
+        public long games() {
+            return xWins + oWins + draws;
+        }
+
+        Result plus(Result other) {
+            return new Result(xWins + other.xWins, oWins + other.oWins, draws + other.draws);
+        }
+    }
+
+    private final Supplier<? extends MoveStrategy> xStrategy;
+    private final Supplier<? extends MoveStrategy> oStrategy;
+    private final int size;
+    private final int winLength;
+
+    public Simulator(Supplier<? extends MoveStrategy> xStrategy, Supplier<? extends MoveStrategy> oStrategy) {
+        this(3, 3, xStrategy, oStrategy);
+    }
+
+    public Simulator(int size, int winLength,
+                     Supplier<? extends MoveStrategy> xStrategy, Supplier<? extends MoveStrategy> oStrategy) {
+        this.size = size;
+        this.winLength = winLength;
+        this.xStrategy = xStrategy;
+        this.oStrategy = oStrategy;
+    }
+
+    public Result run(long games) {
+        return run(games, ForkJoinPool.commonPool());
+    }
+
+    public Result run(long games, ForkJoinPool pool) {
+        if (games < 0) {
+            throw new IllegalArgumentException("games must not be negative: " + games);
+        }
+        return pool.invoke(task(games, pool.getParallelism()));
+    }
+
+    /**
+     * A task playing {@code games} games, split for {@code parallelism} workers,
+     * for callers that run several simulations together in one pool.
+     */
+    ForkJoinTask<Result> task(long games, int parallelism) {
+        return new Batch(games, Math.max(MIN_CHUNK, games / (parallelism * 8L)));
+    }
+
+    Result play(long games) {
+        GameEngine engine = new GameEngine(new Board(size, winLength));
+        Board board = engine.getBoard();
+        MoveStrategy x = xStrategy.get();
+        MoveStrategy o = oStrategy.get();
+        long xWins = 0;
+        long oWins = 0;
+        long draws = 0;
+
+        for (long i = 0; i < games; i++) {
+            engine.reset();
+            while (engine.getStatus() == GameStatus.IN_PROGRESS) {
+                char marker = engine.getCurrentMarker();
+                int cell = (marker == 'X' ? x : o).chooseMove(board, marker);
+                if (engine.move(cell / size, cell % size) != GameEngine.MoveResult.OK) {
+                    throw new IllegalStateException("Strategy for " + marker + " chose illegal cell " + cell);
+                }
+            }
+            switch (engine.getStatus()) {
+                case X_WON -> xWins++;
+                case O_WON -> oWins++;
+                default -> draws++;
+            }
+        }
+        return new Result(xWins, oWins, draws);
+    }
+
+    private class Batch extends RecursiveTask<Result> {
+        private final long games;
+        private final long chunk;
+
+        Batch(long games, long chunk) {
+            this.games = games;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected Result compute() {
+            if (games <= chunk) {
+                return play(games);
+            }
+            long half = games / 2;
+            Batch left = new Batch(half, chunk);
+            left.fork();
+            Result right = new Batch(games - half, chunk).compute();
+            return left.join().plus(right);
+        }
+    }
+}
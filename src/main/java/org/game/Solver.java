@@ -0,0 +1,99 @@
+package org.game;
+
+/**
+ * Perfect-play negamax solver for the 3x3 board.
+ * <p>
+ * Every searched position is stored in a transposition table indexed by its
+ * canonical (side to move, opponent) key, so the 8 rotations and mirrors of a
+ * position share one entry. Once a position has been searched, its whole
+ * subtree is in the table and later queries are a lookup.
+ */
+public class Solver {
+    private static final int NO_MOVE = -1;
+
+    // Entry layout: bits 0-3 best move + 1 (0 when the game is over), bits 4-8 score + 16.
+    // An entry of 0 means the position has not been searched. Entries are written
+    // whole and always hold the same value for a key, so racing writers are harmless.
+    private final short[] table = new short[1 << 18];
+
+    /**
+     * Returns the best cell (x * 3 + y) for {@code marker} to play, or -1 if the
+     * game is already decided.
+     */
+    public int bestMove(Board board, char marker) {
+        requireClassicBoard(board);
+        int me = marker == 'X' ? board.getXMask() : board.getOMask();
+        int opp = marker == 'X' ? board.getOMask() : board.getXMask();
+
+        int t = Symmetry.canonicalTransform(me, opp);
+        int entry = lookup(Symmetry.MASK[t][me], Symmetry.MASK[t][opp]);
+        int move = (entry & 0xF) - 1;
+        return move == NO_MOVE ? NO_MOVE : Symmetry.CELL[Symmetry.INVERSE[t]][move];
+    }
+
+    /**
+     * Returns the game-theoretic score for {@code marker} to move: positive wins,
+     * zero draws, negative loses. Faster wins score higher.
+     */
+    public int evaluate(Board board, char marker) {
+        requireClassicBoard(board);
+        int me = marker == 'X' ? board.getXMask() : board.getOMask();
+        int opp = marker == 'X' ? board.getOMask() : board.getXMask();
+        return (lookup(me, opp) >> 4) - 16;
+    }
+
+    private static void requireClassicBoard(Board board) {
+        if (board.getSize() != 3 || board.getWinLength() != 3) {
+            throw new IllegalArgumentException("Solver only supports the 3x3 board");
+        }
+    }
+
+    private int lookup(int me, int opp) {
+        int entry = table[Symmetry.canonicalKey(me, opp)];
+        if (entry == 0) {
+            search(me, opp);
+            entry = table[Symmetry.canonicalKey(me, opp)];
+        }
+        return entry;
+    }
+
+    private int search(int me, int opp) {
+        int t = Symmetry.canonicalTransform(me, opp);
+        int key = Symmetry.MASK[t][me] << 9 | Symmetry.MASK[t][opp];
+        int entry = table[key];
+        if (entry != 0) {
+            return (entry >> 4) - 16;
+        }
+
+        int occupied = me | opp;
+        int empties = 9 - Integer.bitCount(occupied);
+        int bestScore;
+        int bestMove = NO_MOVE;
+
+        if (Board.hasLine(opp)) {
+            bestScore = -(empties + 1);
+        } else if (Board.hasLine(me)) {
+            // Only reachable from a root where the side to move has already won.
+            bestScore = empties + 1;
+        } else if (empties == 0) {
+            bestScore = 0;
+        } else {
+            bestScore = Integer.MIN_VALUE;
+            for (int cell = 0; cell < 9; cell++) {
+                int bit = 1 << cell;
+                if ((occupied & bit) != 0) {
+                    continue;
+                }
+                int score = -search(opp, me | bit);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = cell;
+                }
+            }
+        }
+
+        int storedMove = bestMove == NO_MOVE ? NO_MOVE : Symmetry.CELL[t][bestMove];
+        table[key] = (short) ((bestScore + 16) << 4 | (storedMove + 1));
+        return bestScore;
+    }
+}
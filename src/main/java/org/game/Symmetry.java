@@ -0,0 +1,232 @@
+package org.game;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The 8 rotations and mirrors of a square board, used to treat symmetric
+ * positions as one. Transform {@code t} moves cell (x, y) as listed in
+ * {@link #mapCell}; the same numbering is used by {@link Board}'s symmetric
+ * Zobrist hashes.
+ * <p>
+ * An instance for one board size canonicalizes positions given as X and O cell
+ * masks in the {@link Board#getXMask()} layout, so boards of up to 5x5 are
+ * supported and masks must not set bits beyond the board's cells. The canonical form is the transform with the smallest packed key
+ * {@code xMask << cells | oMask}; {@link #canonicalize} returns that key
+ * together with the transform, so a move chosen on the canonical position can
+ * be mapped back with {@link #toOriginal}:
+ * <pre>
+ * long canonical = symmetry.canonicalize(board);
+ * int move = symmetry.toOriginal(Symmetry.transform(canonical), lookUp(Symmetry.key(canonical)));
+ * </pre>
+ * Masks are transformed through precomputed tables, in one lookup on the 3x3
+ * board and a byte at a time on larger ones, so canonicalizing takes no
+ * branches beyond the loop and allocates nothing.
+ */
+public final class Symmetry {
+    public static final int TRANSFORMS = 8;
+    private static final int MAX_SIZE = 5;
+    private static final ConcurrentHashMap<Integer, Symmetry> BY_SIZE = new ConcurrentHashMap<>();
+
+    // The 3x3 tables below back the Solver, which packs (a, b) as a << 9 | b.
+
+    // CELL[t][c] is the cell that c is moved to by transform t (cell index x * 3 + y).
+    static final int[][] CELL = new int[TRANSFORMS][9];
+    // MASK[t][m] applies transform t to every bit of the 9-bit mask m.
+    static final int[][] MASK = new int[TRANSFORMS][1 << 9];
+    static final int[] INVERSE = {0, 3, 2, 1, 4, 5, 6, 7};
+
+    static {
+        for (int t = 0; t < TRANSFORMS; t++) {
+            for (int c = 0; c < 9; c++) {
+                CELL[t][c] = mapCell(3, t, c / 3, c % 3);
+            }
+            for (int m = 0; m < (1 << 9); m++) {
+                int mapped = 0;
+                for (int c = 0; c < 9; c++) {
+                    if ((m & (1 << c)) != 0) {
+                        mapped |= 1 << CELL[t][c];
+                    }
+                }
+                MASK[t][m] = mapped;
+            }
+        }
+    }
+
+    private final int size;
+    private final int cells;
+    // A mask is looked up in 1, 2 or 4 chunks of chunkBits bits, so the lookups below can be unrolled.
+    private final int chunkBits;
+    private final int chunkCount;
+    // cellMap[t][c] is the cell that c is moved to by transform t.
+    private final int[][] cellMap;
+    // chunks[(t * chunkCount + k) << chunkBits | b] is chunk k of a mask with value b, moved by transform t.
+    private final int[] chunks;
+
+    private Symmetry(int size) {
+        this.size = size;
+        cells = size * size;
+        // A whole 3x3 mask fits one 512-entry chunk; larger masks go by the byte.
+        chunkBits = cells <= 9 ? 9 : 8;
+        chunkCount = cells <= 9 ? 1 : cells <= 16 ? 2 : 4;
+        cellMap = new int[TRANSFORMS][cells];
+        chunks = new int[TRANSFORMS * chunkCount << chunkBits];
+        for (int t = 0; t < TRANSFORMS; t++) {
+            for (int c = 0; c < cells; c++) {
+                cellMap[t][c] = mapCell(size, t, c / size, c % size);
+            }
+            for (int k = 0; k < chunkCount; k++) {
+                for (int b = 0; b < 1 << chunkBits; b++) {
+                    int mapped = 0;
+                    for (int bit = 0; bit < chunkBits; bit++) {
+                        int c = k * chunkBits + bit;
+                        if (c < cells && (b & 1 << bit) != 0) {
+                            mapped |= 1 << cellMap[t][c];
+                        }
+                    }
+                    chunks[(t * chunkCount + k) << chunkBits | b] = mapped;
+                }
+            }
+        }
+    }
+
+    /** The shared instance for {@code size} x {@code size} boards, 1 to 5. */
+    public static Symmetry forSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Symmetry supports boards of size 1 to " + MAX_SIZE + ": " + size);
+        }
+        Symmetry symmetry = BY_SIZE.get(size);
+        if (symmetry == null) {
+            BY_SIZE.putIfAbsent(size, new Symmetry(size));
+            symmetry = BY_SIZE.get(size);
+        }
+        return symmetry;
+    }
+
+    /** The cell (as x * size + y) that (x, y) is moved to by transform {@code t}. */
+    static int mapCell(int size, int t, int x, int y) {
+        int n = size - 1;
+        return switch (t) {
+            case 0 -> x * size + y;             // identity
+            case 1 -> y * size + (n - x);       // rotate 90
+            case 2 -> (n - x) * size + (n - y); // rotate 180
+            case 3 -> (n - y) * size + x;       // rotate 270
+            case 4 -> x * size + (n - y);       // mirror left/right
+            case 5 -> (n - x) * size + y;       // mirror top/bottom
+            case 6 -> y * size + x;             // main diagonal
+            case 7 -> (n - y) * size + (n - x); // anti-diagonal
+            default -> throw new IllegalArgumentException("No such transform: " + t);
+        };
+    }
+
+    /** The transform that undoes {@code t}. */
+    public static int inverse(int t) {
+        return INVERSE[t];
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /** Applies transform {@code t} to every cell of {@code mask}. */
+    public int transformMask(int t, int mask) {
+        int base = t * chunkCount << chunkBits;
+        return switch (chunkCount) {
+            case 1 -> chunks[base | mask];
+            case 2 -> transform2(chunks, base, mask);
+            default -> transform4(chunks, base, mask);
+        };
+    }
+
+    private static int transform2(int[] table, int base, int mask) {
+        return table[base | mask & 0xFF] | table[base + 256 | mask >>> 8 & 0xFF];
+    }
+
+    private static int transform4(int[] table, int base, int mask) {
+        return table[base | mask & 0xFF] | table[base + 256 | mask >>> 8 & 0xFF]
+                | table[base + 512 | mask >>> 16 & 0xFF] | table[base + 768 | mask >>> 24];
+    }
+
+    /** Where {@code cell} of the original board lies on the board transformed by {@code t}. */
+    public int toCanonical(int t, int cell) {
+        return cellMap[t][cell];
+    }
+
+    /** Where {@code cell} of the board transformed by {@code t} lies on the original board. */
+    public int toOriginal(int t, int cell) {
+        return cellMap[INVERSE[t]][cell];
+    }
+
+    /**
+     * The canonical form of the position, packed as {@code key << 3 | transform}:
+     * read it with {@link #key} and {@link #transform}. When several transforms
+     * give the canonical key, the lowest-numbered one is reported.
+     */
+    public long canonicalize(int xMask, int oMask) {
+        int[] table = chunks;
+        long best = Long.MAX_VALUE;
+        if (chunkCount == 1) {
+            for (int t = 0; t < TRANSFORMS; t++) {
+                int base = t << 9;
+                long key = (long) table[base | xMask] << cells | table[base | oMask];
+                best = Math.min(best, key << 3 | t);
+            }
+        } else if (chunkCount == 2) {
+            for (int t = 0; t < TRANSFORMS; t++) {
+                int base = t << 9;
+                long key = (long) transform2(table, base, xMask) << cells | transform2(table, base, oMask);
+                best = Math.min(best, key << 3 | t);
+            }
+        } else {
+            for (int t = 0; t < TRANSFORMS; t++) {
+                int base = t << 10;
+                long key = (long) transform4(table, base, xMask) << cells | transform4(table, base, oMask);
+                best = Math.min(best, key << 3 | t);
+            }
+        }
+        return best;
+    }
+
+    /** {@link #canonicalize(int, int)} for the current position of {@code board}. */
+    public long canonicalize(Board board) {
+        if (board.getSize() != size) {
+            throw new IllegalArgumentException("Expected a board of size " + size + ": " + board.getSize());
+        }
+        return canonicalize(board.getXMask(), board.getOMask());
+    }
+
+    /** The canonical key, {@code xMask << cells | oMask} of the transformed position. */
+    public static long key(long canonical) {
+        return canonical >>> 3;
+    }
+
+    /** The transform that turns the original position into the canonical one. */
+    public static int transform(long canonical) {
+        return (int) canonical & 0b111;
+    }
+
+    // Packs (a, b) as a << 9 | b and returns the smallest such key over all transforms.
+    static int canonicalKey(int a, int b) {
+        int best = Integer.MAX_VALUE;
+        for (int t = 0; t < TRANSFORMS; t++) {
+            int key = MASK[t][a] << 9 | MASK[t][b];
+            if (key < best) {
+                best = key;
+            }
+        }
+        return best;
+    }
+
+    // Returns the first transform that produces canonicalKey(a, b).
+    static int canonicalTransform(int a, int b) {
+        int best = Integer.MAX_VALUE;
+        int bestTransform = 0;
+        for (int t = 0; t < TRANSFORMS; t++) {
+            int key = MASK[t][a] << 9 | MASK[t][b];
+            if (key < best) {
+                best = key;
+                bestTransform = t;
+            }
+        }
+        return bestTransform;
+    }
+}
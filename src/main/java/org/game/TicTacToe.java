@@ -1,5 +1,7 @@
 package org.game;
 
+import java.io.InputStream;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
 
 public class TicTacToe {
@@ -7,46 +9,129 @@ public class TicTacToe {
     private Player player2;
     private Player currentPlayer;
     private Board board;
+    private GameEngine engine;
+    // Created on first use, so headless games never bind to System.out or System.in.
+    private BoardRenderer renderer;
+    private GameEventPublisher events;
     private Scanner scanner;
+    // Replaces the scanner once setInput is called.
+    private MoveInputReader input;
 
     public TicTacToe() {
-        board = new Board();
-        player1 = new Player('X');
-        player2 = new Player('O');
+        this(3, 3);
+    }
+
+    public TicTacToe(int size, int winLength) {
+        this(size, winLength, null, null);
+    }
+
+    /** A game where each side is played by the given strategy, or by console input when it is null. */
+    public TicTacToe(int size, int winLength, MoveStrategy xStrategy, MoveStrategy oStrategy) {
+        board = new Board(size, winLength);
+        player1 = new Player('X', xStrategy != null ? xStrategy : new ConsoleInput());
+        player2 = new Player('O', oStrategy != null ? oStrategy : new ConsoleInput());
 
         currentPlayer = player1;
+        engine = new GameEngine(board);
+        events = new GameEventPublisher();
+        engine.setEventPublisher(events);
+    }
 
-        scanner = new Scanner(System.in);
+    /**
+     * Reads console moves and answers from {@code in} with a {@link MoveInputReader}
+     * instead of a {@link Scanner}, which keeps long piped scripts cheap to parse.
+     */
+    public void setInput(InputStream in) {
+        input = new MoveInputReader(in);
     }
 
     private int getValidInput(String prompt) {
         int value;
         while (true) {
-            System.out.print(prompt);
-            if (scanner.hasNextInt()) {
-                value = scanner.nextInt();
-                if (value >= 0 && value <= 2) {
+            printPrompt(prompt);
+            if (input != null ? nextToken().isInt() : scanner().hasNextInt()) {
+                value = input != null ? input.intValue() : scanner().nextInt();
+                if (value >= 0 && value < board.getSize()) {
                     return value;
                 } else {
-                    System.out.println("Please enter a number between 0 and 2.");
+                    say("Please enter a number between 0 and " + (board.getSize() - 1) + ".");
                 }
             } else {
-                System.out.println("Invalid input. Please enter a number.");
-                scanner.next();
+                say("Invalid input. Please enter a number.");
+                if (input == null) {
+                    scanner().next();
+                }
             }
         }
     }
 
+    // Fails at the end of the input the way Scanner.next does.
+    private MoveInputReader nextToken() {
+        if (!input.next()) {
+            throw new NoSuchElementException("No more input");
+        }
+        return input;
+    }
+
+    private Scanner scanner() {
+        if (scanner == null) {
+            scanner = new Scanner(System.in);
+        }
+        return scanner;
+    }
+
+    private BoardRenderer renderer() {
+        if (renderer == null) {
+            renderer = new BoardRenderer(System.out);
+        }
+        return renderer;
+    }
+
+    // Messages built by concatenation are skipped entirely when this is true.
+    private boolean silent() {
+        return renderer().isSilent();
+    }
+
+    private void say(String line) {
+        renderer().appendLine(line).flush();
+    }
+
+    private void printPrompt(String text) {
+        renderer().appendText(text).flush();
+    }
+
+    /** Reads moves for a human player from the game's scanner. */
+    private class ConsoleInput implements MoveStrategy {
+        @Override
+        public int chooseMove(Board board, char marker) {
+            say("\nPlayer " + marker + ", enter your move:");
+            int row = getValidInput("Enter row (0-" + (board.getSize() - 1) + "): ");
+            int col = getValidInput("Enter column (0-" + (board.getSize() - 1) + "): ");
+            return row * board.getSize() + col;
+        }
+
+        @Override
+        public boolean isInteractive() {
+            return true;
+        }
+    }
+
     private boolean askToPlayAgain() {
-        System.out.print("Do you want to play again? (y/n): ");
+        printPrompt("Do you want to play again? (y/n): ");
         while (true) {
-            String input = scanner.next().trim().toLowerCase();
-            if (input.equals("y")) {
+            char answer;
+            if (input != null) {
+                answer = nextToken().letter();
+            } else {
+                String token = scanner().next().trim().toLowerCase();
+                answer = token.length() == 1 ? token.charAt(0) : 0;
+            }
+            if (answer == 'y') {
                 return true;
-            } else if (input.equals("n")) {
+            } else if (answer == 'n') {
                 return false;
             } else {
-                System.out.print("Invalid input. Please enter 'y' or 'n': ");
+                printPrompt("Invalid input. Please enter 'y' or 'n': ");
             }
         }
     }
@@ -54,67 +139,98 @@ public class TicTacToe {
 
 
     public void start() {
-        System.out.println("TicTacToe game started!");
+        say("TicTacToe game started!");
 
         boolean playAgain = true;
 
         while (playAgain) {
-            board.clear();
-            currentPlayer = player1;
-
-            while (true) {
-                System.out.println("\nCurrent board state: ");
-                board.print();
-                System.out.println("\nPlayer " + currentPlayer.getMarker() + ", enter your move:");
+            engine.reset();
 
-                int row = getValidInput("Enter row (0-2): ");
-                int col = getValidInput("Enter column (0-2): ");
+            while (engine.getStatus() == GameStatus.IN_PROGRESS) {
+                currentPlayer = engine.getCurrentMarker() == player1.getMarker() ? player1 : player2;
+                renderer().appendLine("\nCurrent board state: ").append(engine.getBoard()).flush();
 
-                boolean moveMade = makeMove(row, col);
+                int cell = currentPlayer.chooseMove(engine.getBoard());
+                int row = cell / board.getSize();
+                int col = cell % board.getSize();
 
-                if (moveMade) {
-                    if (hasWinner()) {
-                        System.out.println("Player " + currentPlayer.getMarker() + " wins!");
-                        board.print();
-                        break;
-                    }
+                long moveStart = GameMetrics.ENABLED ? GameMetrics.startMove() : 0;
+                GameEngine.MoveResult result = engine.move(row, col);
+                if (GameMetrics.ENABLED) {
+                    GameMetrics.global().finishMove(result, moveStart);
+                }
+                reportMove(result, row, col, engine.getBoard());
+                if (result != GameEngine.MoveResult.OK && !currentPlayer.isInteractive()) {
+                    throw new IllegalStateException("Player " + currentPlayer.getMarker() + " chose an illegal move");
+                }
 
-                    if (board.isFull()) {
-                        System.out.println("It's a draw!");
-                        board.print();
-                        break;
+                if (result == GameEngine.MoveResult.OK && !silent()) {
+                    switch (engine.getStatus()) {
+                        case X_WON, O_WON -> {
+                            renderer().appendLine("Player " + currentPlayer.getMarker() + " wins!")
+                                    .append(engine.getBoard()).flush();
+                        }
+                        case DRAW -> {
+                            renderer().appendLine("It's a draw!").append(engine.getBoard()).flush();
+                        }
+                        case IN_PROGRESS ->
+                                say("It's now Player " + engine.getCurrentMarker() + "'s turn.");
                     }
-
-                    switchCurrentPlayer();
                 }
             }
+            if (GameMetrics.ENABLED) {
+                GameMetrics.global().recordGame(engine.getStatus(), engine.getMoveCount());
+            }
 
-            playAgain = askToPlayAgain();
+            playAgain = (player1.isInteractive() || player2.isInteractive()) && askToPlayAgain();
         }
 
         closeScanner();
-        System.out.println("Thanks for playing!");
+        say("Thanks for playing!");
     }
 
 
 
+    /**
+     * Plays (x, y) for the current player through the engine, so its status and
+     * events stay in step. The current player does not change; callers hand the
+     * turn over with {@link #switchCurrentPlayer()}.
+     */
     public boolean makeMove(int x, int y) {
-        if (x < 0 || x > 2 || y < 0 || y > 2) {
-            System.out.println("Invalid coordinates! Please choose a row and colum between 0 and 2.");
-            return false;
+        long start = GameMetrics.ENABLED ? GameMetrics.startMove() : 0;
+        syncTurn();
+        GameEngine.MoveResult result = engine.move(x, y);
+        if (GameMetrics.ENABLED) {
+            GameMetrics.global().finishMove(result, start);
         }
+        reportMove(result, x, y, board);
+        return result == GameEngine.MoveResult.OK;
+    }
 
-        if (board.isCellEmpty(x, y)) {
-            board.place(x, y, currentPlayer.getMarker());
-            System.out.println("Player " + currentPlayer.getMarker() + " placed at (" + x + "," + y + ")");
-            System.out.println("Current board state: ");
-            board.print();
-            return true;
-        } else {
-            System.out.println("Cell (" + x + "," + y + ") is already occupied. Please choose an empty cell.");
-            System.out.println("Current board state: ");
-            board.print();
-            return false;
+    // The engine advances the turn itself; this API lets the caller pick the player instead.
+    private void syncTurn() {
+        if (engine.getCurrentMarker() != currentPlayer.getMarker()) {
+            engine.setTurn(currentPlayer.getMarker());
+        }
+    }
+
+    private void reportMove(GameEngine.MoveResult result, int x, int y, Board board) {
+        if (silent()) {
+            return;
+        }
+        switch (result) {
+            case OK -> {
+                renderer().appendLine("Player " + currentPlayer.getMarker() + " placed at (" + x + "," + y + ")")
+                        .appendLine("Current board state: ").append(board).flush();
+            }
+            case OUT_OF_BOUNDS ->
+                    say("Invalid coordinates! Please choose a row and colum between 0 and "
+                            + (board.getSize() - 1) + ".");
+            case OCCUPIED -> {
+                renderer().appendLine("Cell (" + x + "," + y + ") is already occupied. Please choose an empty cell.")
+                        .appendLine("Current board state: ").append(board).flush();
+            }
+            case GAME_OVER -> say("The game is already over.");
         }
     }
 
@@ -125,10 +241,41 @@ public class TicTacToe {
         } else {
             currentPlayer = player1;
         }
-        System.out.println("It's now Player " + currentPlayer.getMarker() + "'s turn.");
+        // After a move the engine has already passed the turn and published it.
+        syncTurn();
+        if (!silent()) {
+            say("It's now Player " + currentPlayer.getMarker() + "'s turn.");
+        }
+    }
+
+    /** Live state changes of this game, for spectators; see {@link GameEventPublisher}. */
+    public GameEventPublisher getEvents() {
+        return events;
+    }
+
+    /**
+     * Replaces where the game's output goes, e.g. {@link BoardRenderer#NO_OP} for
+     * silent headless runs, which then build no messages at all. Without a call
+     * output goes to System.out. All boards, messages and prompts go through the
+     * renderer, which is what lets a redraw-mode renderer keep its place.
+     */
+    public void setRenderer(BoardRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    public void reset() {
+        engine.reset(player1.getMarker());
+        currentPlayer = player1;
+    }
+
+    public Board getBoard() {
+        return board;
     }
 
     public boolean hasWinner() {
+        if (GameMetrics.ENABLED) {
+            GameMetrics.global().countHasWinner();
+        }
         char marker = currentPlayer.getMarker();
         return board.hasThreeInRow(marker);
     }
@@ -138,6 +285,9 @@ public class TicTacToe {
         if (scanner != null) {
             scanner.close();
         }
+        if (input != null) {
+            input.close();
+        }
     }
 
 
@@ -0,0 +1,254 @@
+package org.game;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Runs headless matches between strategies and keeps Elo ratings and win/draw/loss
+ * records across runs, so it can be used as a ladder.
+ * <p>
+ * Every pairing plays its games in two halves with the entrants swapping X and
+ * O, so neither gets the first-move advantage. All games of a round, across
+ * all of its pairings, run at once on a ForkJoin pool through
+ * {@link Simulator}. Ratings are updated in schedule order after the round
+ * finishes, as if every game of a pairing had been rated in turn at the
+ * pairing's average result (computed in closed form, see {@link #record}), so
+ * the outcome does not depend on thread timing.
+ */
+public class Tournament {
+    public enum Schedule {
+        /** Every entrant meets every other entrant once per round. */
+        ROUND_ROBIN,
+        /** Each round pairs entrants with similar scores, avoiding rematches where possible. */
+        SWISS
+    }
+
+    public record Entrant(String name, Supplier<? extends MoveStrategy> strategy) {
+    }
+
+    public record Standing(String name, double rating, long wins, long draws, long losses) {
+        public long games() {
+            return wins + draws + losses;
+        }
+
+        /** Points per game, counting a draw as half a win. */
+        public double score() {
+            long games = games();
+            return games == 0 ? 0 : (wins + draws / 2.0) / games;
+        }
+    }
+
+    static final double INITIAL_RATING = 1500;
+    static final double K_FACTOR = 32;
+    // Largest rating gap a pairing's result can justify, where the expected score is 1 in 101.
+    static final double MAX_GAP = 800;
+
+    private final int size;
+    private final int winLength;
+    private final List<Entrant> entrants;
+    private final double[] ratings;
+    private final long[] wins;
+    private final long[] draws;
+    private final long[] losses;
+
+    public Tournament(List<Entrant> entrants) {
+        this(3, 3, entrants);
+    }
+
+    public Tournament(int size, int winLength, List<Entrant> entrants) {
+        if (entrants.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two entrants");
+        }
+        this.size = size;
+        this.winLength = winLength;
+        this.entrants = List.copyOf(entrants);
+        int count = entrants.size();
+        ratings = new double[count];
+        Arrays.fill(ratings, INITIAL_RATING);
+        wins = new long[count];
+        draws = new long[count];
+        losses = new long[count];
+    }
+
+    public void run(Schedule schedule, int rounds, long gamesPerPairing) {
+        run(schedule, rounds, gamesPerPairing, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays {@code rounds} rounds of {@code schedule}, each pairing playing
+     * {@code gamesPerPairing} games, and updates the standings.
+     */
+    public void run(Schedule schedule, int rounds, long gamesPerPairing, ForkJoinPool pool) {
+        if (rounds < 0 || gamesPerPairing < 2) {
+            throw new IllegalArgumentException("Need rounds >= 0 and at least two games per pairing");
+        }
+        Set<Long> played = new HashSet<>();
+        for (int round = 0; round < rounds; round++) {
+            List<int[]> pairings = schedule == Schedule.ROUND_ROBIN ? roundRobin() : swiss(played);
+            playRound(pairings, gamesPerPairing, pool);
+        }
+    }
+
+    private List<int[]> roundRobin() {
+        List<int[]> pairings = new ArrayList<>();
+        for (int a = 0; a < entrants.size(); a++) {
+            for (int b = a + 1; b < entrants.size(); b++) {
+                pairings.add(new int[]{a, b});
+            }
+        }
+        return pairings;
+    }
+
+    // Greedy Swiss pairing down the standings; with an odd field the lowest unpaired entrant sits out.
+    private List<int[]> swiss(Set<Long> played) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < entrants.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.<Integer>comparingDouble(i -> -points(i)).thenComparingDouble(i -> -ratings[i]));
+
+        List<int[]> pairings = new ArrayList<>();
+        boolean[] paired = new boolean[entrants.size()];
+        for (int i = 0; i < order.size(); i++) {
+            int a = order.get(i);
+            if (paired[a]) {
+                continue;
+            }
+            // The closest unpaired entrant not met before, else the closest unpaired one.
+            int opponent = -1;
+            for (int j = i + 1; j < order.size(); j++) {
+                int b = order.get(j);
+                if (paired[b]) {
+                    continue;
+                }
+                if (opponent < 0) {
+                    opponent = b;
+                }
+                if (!played.contains(key(a, b))) {
+                    opponent = b;
+                    break;
+                }
+            }
+            if (opponent >= 0) {
+                paired[a] = true;
+                paired[opponent] = true;
+                played.add(key(a, opponent));
+                pairings.add(new int[]{a, opponent});
+            }
+        }
+        return pairings;
+    }
+
+    private double points(int entrant) {
+        return wins[entrant] + draws[entrant] / 2.0;
+    }
+
+    private static long key(int a, int b) {
+        return (long) Math.min(a, b) << 32 | Math.max(a, b);
+    }
+
+    private void playRound(List<int[]> pairings, long gamesPerPairing, ForkJoinPool pool) {
+        int parallelism = pool.getParallelism();
+        List<ForkJoinTask<Simulator.Result>> tasks = new ArrayList<>();
+        for (int[] pairing : pairings) {
+            Entrant a = entrants.get(pairing[0]);
+            Entrant b = entrants.get(pairing[1]);
+            long half = gamesPerPairing / 2;
+            tasks.add(new Simulator(size, winLength, a.strategy(), b.strategy()).task(half, parallelism));
+            tasks.add(new Simulator(size, winLength, b.strategy(), a.strategy()).task(gamesPerPairing - half, parallelism));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+        for (int p = 0; p < pairings.size(); p++) {
+            int a = pairings.get(p)[0];
+            int b = pairings.get(p)[1];
+            Simulator.Result aAsX = tasks.get(2 * p).join();
+            Simulator.Result bAsX = tasks.get(2 * p + 1).join();
+            long aWins = aAsX.xWins() + bAsX.oWins();
+            long bWins = aAsX.oWins() + bAsX.xWins();
+            long drawn = aAsX.draws() + bAsX.draws();
+            record(a, b, aWins, bWins, drawn);
+        }
+    }
+
+    /**
+     * Rating one game at the pairing's average score moves the gap between the
+     * ratings by {@code 2K (actual - expected)}, towards the gap at which the
+     * expected score equals the actual one. With the Elo curve replaced by its
+     * secant between those two gaps, {@code n} such games close the distance
+     * geometrically, by a factor {@code (1 - 2K slope)^n}, which stays between
+     * 0 and 1 because the curve's slope never exceeds {@code ln 10 / 1600}.
+     */
+    private void record(int a, int b, long aWins, long bWins, long drawn) {
+        wins[a] += aWins;
+        losses[a] += bWins;
+        wins[b] += bWins;
+        losses[b] += aWins;
+        draws[a] += drawn;
+        draws[b] += drawn;
+
+        long games = aWins + bWins + drawn;
+        if (games == 0) {
+            return;
+        }
+        double actual = (aWins + drawn / 2.0) / games;
+        double expected = expectedScore(ratings[a], ratings[b]);
+        double gap = ratings[a] - ratings[b];
+        double distance = gapFor(actual) - gap;
+        // Also covers gaps already beyond MAX_GAP, which a lopsided result leaves alone.
+        if (distance == 0 || distance > 0 != actual > expected) {
+            return;
+        }
+        double slope = (actual - expected) / distance;
+        double moved = distance * (1 - Math.pow(1 - 2 * K_FACTOR * slope, games));
+        ratings[a] += moved / 2;
+        ratings[b] -= moved / 2;
+    }
+
+    /** The rating gap at which {@code score} is the expected score, within {@link #MAX_GAP}. */
+    static double gapFor(double score) {
+        if (score <= 0 || score >= 1) {
+            return score <= 0 ? -MAX_GAP : MAX_GAP;
+        }
+        double gap = 400 * Math.log10(score / (1 - score));
+        return Math.max(-MAX_GAP, Math.min(MAX_GAP, gap));
+    }
+
+    /** Elo expected score of a player rated {@code rating} against {@code opponent}. */
+    static double expectedScore(double rating, double opponent) {
+        return 1 / (1 + Math.pow(10, (opponent - rating) / 400));
+    }
+
+    /** Current standings, best rating first. */
+    public List<Standing> getStandings() {
+        List<Standing> standings = new ArrayList<>();
+        for (int i = 0; i < entrants.size(); i++) {
+            standings.add(new Standing(entrants.get(i).name(), ratings[i], wins[i], draws[i], losses[i]));
+        }
+        standings.sort(Comparator.comparingDouble(Standing::rating).reversed());
+        return standings;
+    }
+
+    /** Writes the standings as a fixed-width text table. */
+    public void writeTable(PrintStream out) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-4s %-20s %8s %12s %12s %12s %12s %7s%n",
+                "#", "Entrant", "Elo", "Games", "Wins", "Draws", "Losses", "Score"));
+        int rank = 1;
+        for (Standing standing : getStandings()) {
+            sb.append(String.format("%-4d %-20s %8.1f %12d %12d %12d %12d %6.1f%%%n",
+                    rank++, standing.name(), standing.rating(), standing.games(),
+                    standing.wins(), standing.draws(), standing.losses(), standing.score() * 100));
+        }
+        out.print(sb);
+        out.flush();
+    }
+}
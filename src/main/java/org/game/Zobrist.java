@@ -0,0 +1,58 @@
+package org.game;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Zobrist keys for one board size. Keys come from a fixed seed so hashes are
+ * stable across runs. Besides the plain keys, the table holds the keys as seen
+ * through each of the 8 board {@link Symmetry symmetries}, which lets a board
+ * keep the hash of every transformed position up to date with one XOR per
+ * transform.
+ */
+final class Zobrist {
+    static final int TRANSFORMS = Symmetry.TRANSFORMS;
+    private static final long SEED = 0x5EED_7AC7_0E5L;
+    private static final ConcurrentHashMap<Integer, Zobrist> BY_SIZE = new ConcurrentHashMap<>();
+
+    // keys[(index * 2 + player) * TRANSFORMS + t]: key of the cell that index maps to under transform t;
+    // player 0 is X, 1 is O. The 8 keys one placement toggles share a cache line.
+    private final long[] keys;
+
+    private Zobrist(int size) {
+        int cells = size * size;
+        long[] base = new long[cells * 2];
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < base.length; i++) {
+            base[i] = random.nextLong();
+        }
+
+        keys = new long[cells * 2 * TRANSFORMS];
+        for (int index = 0; index < cells; index++) {
+            for (int t = 0; t < TRANSFORMS; t++) {
+                int mapped = Symmetry.mapCell(size, t, index / size, index % size);
+                keys[offset(index, 0) + t] = base[mapped * 2];
+                keys[offset(index, 1) + t] = base[mapped * 2 + 1];
+            }
+        }
+    }
+
+    // get/putIfAbsent rather than computeIfAbsent(size, Zobrist::new): no lambda to link on a cold JVM.
+    static Zobrist forSize(int size) {
+        Zobrist zobrist = BY_SIZE.get(size);
+        if (zobrist == null) {
+            BY_SIZE.putIfAbsent(size, new Zobrist(size));
+            zobrist = BY_SIZE.get(size);
+        }
+        return zobrist;
+    }
+
+    /** Where the keys of {@code index} for {@code player} start in {@link #keys()}, one per transform. */
+    static int offset(int index, int player) {
+        return (index * 2 + player) * TRANSFORMS;
+    }
+
+    long[] keys() {
+        return keys;
+    }
+}
@@ -0,0 +1,78 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchEvaluatorTest {
+
+    private static GameStatus statusOf(Board board) {
+        if (board.hasThreeInRow('X')) {
+            return GameStatus.X_WON;
+        }
+        if (board.hasThreeInRow('O')) {
+            return GameStatus.O_WON;
+        }
+        return board.isFull() ? GameStatus.DRAW : GameStatus.IN_PROGRESS;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"3, 3", "4, 3", "4, 4", "5, 4"})
+    void evaluate_shouldMatchBoardOnRandomGames(int size, int winLength) {
+        SplittableRandom random = new SplittableRandom(size * 31L + winLength);
+        int positions = 2_000;
+        int[] xMasks = new int[positions];
+        int[] oMasks = new int[positions];
+        GameStatus[] expected = new GameStatus[positions];
+        Board board = new Board(size, winLength);
+        for (int i = 0; i < positions; i++) {
+            board.clear();
+            int moves = random.nextInt(size * size + 1);
+            char marker = 'X';
+            for (int m = 0; m < moves && statusOf(board) == GameStatus.IN_PROGRESS; m++) {
+                int cell;
+                do {
+                    cell = random.nextInt(size * size);
+                } while (!board.isCellEmpty(cell / size, cell % size));
+                board.place(cell / size, cell % size, marker);
+                marker = GameEngine.opponent(marker);
+            }
+            xMasks[i] = board.getXMask();
+            oMasks[i] = board.getOMask();
+            expected[i] = statusOf(board);
+        }
+
+        byte[] results = new byte[positions];
+        new BatchEvaluator(size, winLength).evaluate(xMasks, oMasks, results, positions);
+        for (int i = 0; i < positions; i++) {
+            assertEquals(expected[i].ordinal(), results[i], "Position " + i);
+        }
+    }
+
+    @Test
+    void evaluate_shouldClassifySinglePositions() {
+        BatchEvaluator evaluator = new BatchEvaluator();
+        assertEquals(GameStatus.IN_PROGRESS, evaluator.evaluate(0, 0));
+        assertEquals(GameStatus.X_WON, evaluator.evaluate(0b100_010_001, 0b000_001_110));
+        assertEquals(GameStatus.O_WON, evaluator.evaluate(0b000_011_001, 0b111_000_000));
+        assertEquals(GameStatus.DRAW, evaluator.evaluate(0b011_100_101, 0b100_011_010));
+    }
+
+    @Test
+    void evaluate_shouldOnlyWriteRequestedCount() {
+        byte[] results = {9, 9, 9};
+        new BatchEvaluator().evaluate(new int[]{0b111, 0, 0}, new int[3], results, 2);
+        assertArrayEquals(new byte[]{(byte) GameStatus.X_WON.ordinal(), (byte) GameStatus.IN_PROGRESS.ordinal(), 9}, results);
+        assertThrows(IllegalArgumentException.class, () -> new BatchEvaluator().evaluate(new int[1], new int[1], results, 2));
+    }
+
+    @Test
+    void constructor_shouldRejectBoardsOverThirtyTwoCells() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchEvaluator(6, 4));
+        assertThrows(IllegalArgumentException.class, () -> new BatchEvaluator(3, 4));
+    }
+}
@@ -0,0 +1,116 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardRendererTest {
+
+    private static final String EMPTY_BOARD =
+            "-------------\n" +
+            "|   |   |   | \n" +
+            "-------------\n" +
+            "|   |   |   | \n" +
+            "-------------\n" +
+            "|   |   |   | \n" +
+            "-------------\n";
+
+    /** Counts write calls so tests can check that output is batched. */
+    private static class CountingStream extends ByteArrayOutputStream {
+        int writes;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            writes++;
+            super.write(b);
+        }
+    }
+
+    @Test
+    void render_shouldDrawBoardInOneWrite() {
+        CountingStream sink = new CountingStream();
+        Board board = new Board();
+        board.place(1, 1, 'X');
+        board.place(0, 2, 'O');
+
+        new BoardRenderer(sink).render(board);
+
+        assertEquals(1, sink.writes, "A frame should be written with a single call");
+        assertEquals("-------------\n" +
+                "|   |   | O | \n" +
+                "-------------\n" +
+                "|   | X |   | \n" +
+                "-------------\n" +
+                "|   |   |   | \n" +
+                "-------------\n", sink.toString());
+    }
+
+    @Test
+    void flush_shouldBatchSeveralBoardsIntoOneWrite() {
+        CountingStream sink = new CountingStream();
+        BoardRenderer renderer = new BoardRenderer(sink);
+        renderer.appendLine("Boards:").append(new Board()).append(new Board());
+        assertEquals(0, sink.writes, "Nothing should be written before flush");
+        renderer.flush();
+        assertEquals(1, sink.writes, "The whole batch should be written once");
+        assertEquals("Boards:\n" + EMPTY_BOARD + EMPTY_BOARD, sink.toString());
+        renderer.flush();
+        assertEquals(1, sink.writes, "Flushing an empty batch should not write");
+    }
+
+    @Test
+    void render_shouldDoNothingForNoOpSink() {
+        BoardRenderer renderer = new BoardRenderer(BoardRenderer.NO_OP);
+        assertDoesNotThrow(() -> renderer.render(new Board()));
+    }
+
+    @Test
+    void render_shouldRedrawInPlaceWithAnsiEscapes() {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        BoardRenderer renderer = new BoardRenderer(sink, true);
+        renderer.render(new Board());
+        assertEquals(EMPTY_BOARD, sink.toString(), "The first frame has nothing to overwrite");
+        sink.reset();
+        renderer.render(new Board());
+        assertEquals("\u001B[7F\u001B[J" + EMPTY_BOARD, sink.toString(), "Later frames move up over the previous one");
+    }
+
+    @Test
+    void render_shouldRedrawOverMessagesAndAnsweredPrompts() {
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        BoardRenderer renderer = new BoardRenderer(sink, true);
+        renderer.appendLine("Welcome").flush();
+        renderer.appendLine("Turn 1").append(new Board()).flush();
+        assertEquals("Welcome\nTurn 1\n" + EMPTY_BOARD, sink.toString(), "Text before the first board stays");
+        renderer.appendLine("Player X, enter your move:").flush();
+        renderer.appendText("Enter row (0-2): ").flush();
+        renderer.appendText("Enter column (0-2): ").flush();
+        renderer.appendLine("Placed").flush();
+        sink.reset();
+        renderer.appendLine("Turn 2").append(new Board()).flush();
+        // Turn 1 and its board (8 lines), the message, two answered prompts and "Placed".
+        assertEquals("\u001B[12F\u001B[J" + "Turn 2\n" + EMPTY_BOARD, sink.toString());
+    }
+
+    @Test
+    void print_shouldKeepConsoleFormat() {
+        ByteArrayOutputStream captor = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(captor));
+        try {
+            new Board().print();
+        } finally {
+            System.setOut(originalOut);
+        }
+        assertEquals(EMPTY_BOARD, captor.toString());
+    }
+}
@@ -2,6 +2,9 @@ package org.game;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class BoardTest {
@@ -133,4 +136,318 @@ class BoardTest {
         board.place(1, 1, 'X');
         assertFalse(board.hasThreeInRow('X'), "Should not detect a win with an incomplete column");
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCell_shouldReturnPlacedMarker() {
+        board.place(1, 2, 'O');
+        assertEquals('O', board.getCell(1, 2), "Cell (1,2) should contain 'O'");
+        assertEquals(' ', board.getCell(0, 0), "Cell (0,0) should be empty");
+    }
+
+    @Test
+    void place_shouldOverwriteExistingMarker() {
+        board.place(0, 0, 'X');
+        board.place(0, 0, 'O');
+        assertEquals('O', board.getCell(0, 0), "Cell (0,0) should contain the last placed marker");
+        assertFalse(board.hasThreeInRow('X'), "Overwritten marker should no longer count for X");
+    }
+
+    @Test
+    void place_shouldRejectUnknownMarker() {
+        assertThrows(IllegalArgumentException.class, () -> board.place(0, 0, 'A'));
+    }
+
+    @Test
+    void place_shouldRejectOutOfBoundsCell() {
+        assertThrows(IndexOutOfBoundsException.class, () -> board.place(3, 0, 'X'));
+    }
+
+    @Test
+    void hasThreeInRow_shouldDetectFiveInRowOnGomokuBoard() {
+        Board gomoku = new Board(15, 5);
+        for (int i = 0; i < 4; i++) {
+            gomoku.place(7, 3 + i, 'X');
+        }
+        assertFalse(gomoku.hasThreeInRow('X'), "Four in a row should not win when five are required");
+        gomoku.place(7, 7, 'X');
+        assertTrue(gomoku.hasThreeInRow('X'), "Five in a row should win on a 15x15 board");
+    }
+
+    @Test
+    void hasThreeInRow_shouldDetectLineCompletedInTheMiddle() {
+        Board large = new Board(19, 5);
+        large.place(10, 10, 'O');
+        large.place(11, 9, 'O');
+        large.place(13, 7, 'O');
+        large.place(14, 6, 'O');
+        assertFalse(large.hasThreeInRow('O'), "Anti-diagonal with a gap should not win");
+        large.place(12, 8, 'O');
+        assertTrue(large.hasThreeInRow('O'), "Filling the gap should complete the anti-diagonal");
+    }
+
+    @Test
+    void remove_shouldClearWinThroughRemovedCell() {
+        board.place(0, 0, 'X');
+        board.place(0, 1, 'X');
+        board.place(0, 2, 'X');
+        board.remove(0, 1);
+        assertFalse(board.hasThreeInRow('X'), "Removing a cell of the line should undo the win");
+        assertTrue(board.isCellEmpty(0, 1), "Removed cell should be empty");
+    }
+
+    @Test
+    void isFull_shouldRespectConfiguredSize() {
+        Board small = new Board(2, 2);
+        small.place(0, 0, 'X');
+        small.place(0, 1, 'O');
+        small.place(1, 0, 'O');
+        assertFalse(small.isFull(), "2x2 board should not be full with three cells");
+        small.place(1, 1, 'X');
+        assertTrue(small.isFull(), "2x2 board should be full with four cells");
+    }
+
+    @Test
+    void constructor_shouldRejectWinLengthLongerThanBoard() {
+        assertThrows(IllegalArgumentException.class, () -> new Board(3, 4));
+    }
+
+    @Test
+    void getHash_shouldNotDependOnMoveOrder() {
+        Board other = new Board();
+        board.place(0, 0, 'X');
+        board.place(1, 1, 'O');
+        other.place(1, 1, 'O');
+        other.place(0, 0, 'X');
+        assertEquals(board.getHash(), other.getHash(), "Same position should hash equally");
+        assertNotEquals(0L, board.getHash(), "Non-empty position should not hash to zero");
+    }
+
+    @Test
+    void getHash_shouldBeRestoredByRemoveAndClear() {
+        board.place(0, 0, 'X');
+        long before = board.getHash();
+        board.place(2, 1, 'O');
+        assertNotEquals(before, board.getHash(), "Placing a marker should change the hash");
+        board.remove(2, 1);
+        assertEquals(before, board.getHash(), "Removing the marker should restore the hash");
+        board.clear();
+        assertEquals(0L, board.getHash(), "Empty board should hash to zero");
+    }
+
+    @Test
+    void getHash_shouldDistinguishMarkers() {
+        Board other = new Board();
+        board.place(0, 0, 'X');
+        other.place(0, 0, 'O');
+        assertNotEquals(board.getHash(), other.getHash(), "X and O in the same cell should hash differently");
+        other.place(0, 0, 'X');
+        assertEquals(board.getHash(), other.getHash(), "Overwriting O with X should match a board holding X");
+    }
+
+    @Test
+    void getCanonicalHash_shouldMatchForRotationsAndMirrors() {
+        Board rotated = new Board();
+        board.place(0, 0, 'X');
+        board.place(0, 1, 'O');
+        rotated.place(0, 2, 'X');
+        rotated.place(1, 2, 'O');
+        assertNotEquals(board.getHash(), rotated.getHash(), "Rotated positions differ as plain positions");
+        assertEquals(board.getCanonicalHash(), rotated.getCanonicalHash(), "Rotated positions share a canonical hash");
+
+        Board mirrored = new Board(15, 5);
+        Board original = new Board(15, 5);
+        original.place(2, 3, 'X');
+        original.place(7, 7, 'O');
+        mirrored.place(2, 11, 'X');
+        mirrored.place(7, 7, 'O');
+        assertEquals(original.getCanonicalHash(), mirrored.getCanonicalHash(), "Mirrored positions share a canonical hash");
+    }
+
+    @Test
+    void getLegalMoves_shouldReturnMaskOfEmptyCells() {
+        assertEquals(0b111_111_111L, board.getLegalMoves(), "All cells should be legal on an empty board");
+        board.place(0, 0, 'X');
+        board.place(2, 2, 'O');
+        assertEquals(0b011_111_110L, board.getLegalMoves(), "Occupied cells should not be legal");
+    }
+
+    @Test
+    void getLegalMoves_shouldFillCallerArrayOnLargeBoard() {
+        Board large = new Board(15, 5);
+        large.place(0, 0, 'X');
+        large.place(14, 14, 'O');
+        int[] moves = new int[225];
+        assertEquals(223, large.getLegalMoves(moves), "Two of 225 cells are occupied");
+        assertEquals(1, moves[0], "First legal cell should follow the occupied corner");
+        assertEquals(223, moves[222], "Last legal cell should precede the occupied corner");
+        assertThrows(IllegalStateException.class, large::getLegalMoves);
+    }
+
+    @Test
+    void getOrderedMoves_shouldOrderCenterThenCornersThenEdges() {
+        int[] moves = new int[9];
+        assertEquals(9, board.getOrderedMoves(moves));
+        assertArrayEquals(new int[]{4, 0, 2, 6, 8, 1, 3, 5, 7}, moves);
+
+        board.place(1, 1, 'X');
+        board.place(0, 0, 'O');
+        assertEquals(7, board.getOrderedMoves(moves));
+        assertArrayEquals(new int[]{2, 6, 8, 1, 3, 5, 7}, Arrays.copyOf(moves, 7));
+    }
+
+    @Test
+    void undo_shouldRestoreWinnerFillAndHash() {
+        board.place(0, 0, 'X');
+        board.place(1, 1, 'O');
+        board.place(0, 1, 'X');
+        long hash = board.getHash();
+        board.place(0, 2, 'X');
+        assertTrue(board.hasThreeInRow('X'));
+
+        assertTrue(board.undo());
+        assertFalse(board.hasThreeInRow('X'), "Undo should clear the win it created");
+        assertTrue(board.isCellEmpty(0, 2));
+        assertEquals(3, board.getFilledCount());
+        assertEquals(hash, board.getHash(), "Undo should restore the hash");
+    }
+
+    @Test
+    void undo_shouldReturnFalseWhenHistoryIsEmpty() {
+        assertFalse(board.undo());
+        assertFalse(board.redo());
+        board.place(1, 1, 'X');
+        board.clear();
+        assertFalse(board.undo(), "Clear should discard the history");
+    }
+
+    @Test
+    void redo_shouldReplayUndonePlacements() {
+        board.place(0, 0, 'X');
+        board.place(1, 1, 'O');
+        long hash = board.getHash();
+        board.undo();
+        board.undo();
+        assertEquals(0, board.getFilledCount());
+
+        assertTrue(board.redo());
+        assertTrue(board.redo());
+        assertFalse(board.redo());
+        assertEquals('X', board.getCell(0, 0));
+        assertEquals('O', board.getCell(1, 1));
+        assertEquals(hash, board.getHash());
+    }
+
+    @Test
+    void place_shouldDiscardRedoHistory() {
+        board.place(0, 0, 'X');
+        board.undo();
+        board.place(2, 2, 'O');
+        assertFalse(board.redo(), "A new placement should discard undone moves");
+        assertTrue(board.isCellEmpty(0, 0));
+    }
+
+    @Test
+    void undo_shouldRestoreOverwrittenMarker() {
+        board.place(0, 0, 'X');
+        board.place(0, 1, 'X');
+        board.place(0, 2, 'X');
+        long hash = board.getHash();
+        board.place(0, 2, 'O');
+        assertFalse(board.hasThreeInRow('X'), "Overwriting should break the line");
+
+        board.undo();
+        assertEquals('X', board.getCell(0, 2));
+        assertTrue(board.hasThreeInRow('X'));
+        assertEquals(3, board.getFilledCount());
+        assertEquals(hash, board.getHash());
+    }
+
+    @Test
+    void undo_shouldKeepWorkingAfterHistoryOverflows() {
+        for (int i = 0; i < 20; i++) {
+            board.place(1, 1, i % 2 == 0 ? 'X' : 'O');
+        }
+        int undone = 0;
+        while (board.undo()) {
+            undone++;
+        }
+        assertEquals(9, undone, "History should keep the most recent size * size placements");
+        assertEquals('X', board.getCell(1, 1), "Undoing everything kept should leave the 11th placement");
+    }
+
+    @Test
+    void remove_shouldUndoMostRecentPlacement() {
+        board.place(0, 0, 'X');
+        board.place(1, 1, 'O');
+        board.remove(1, 1);
+        assertTrue(board.isCellEmpty(1, 1));
+        assertFalse(board.redo(), "Remove is not undoable");
+        assertTrue(board.undo(), "Earlier placements should still be undoable");
+        assertEquals(0, board.getFilledCount());
+
+        board.place(0, 0, 'X');
+        board.place(1, 1, 'O');
+        board.remove(0, 0);
+        assertFalse(board.undo(), "Removing an older cell should discard the history");
+        assertEquals('O', board.getCell(1, 1));
+    }
+
+    @Test
+    void undo_shouldSupportMakeUnmakeOnLargeBoard() {
+        Board large = new Board(15, 5);
+        for (int i = 0; i < 4; i++) {
+            large.place(7, i, 'X');
+        }
+        long hash = large.getHash();
+        large.place(7, 4, 'X');
+        assertTrue(large.hasThreeInRow('X'));
+        large.undo();
+        assertFalse(large.hasThreeInRow('X'));
+        assertEquals(hash, large.getHash());
+    }
+
+    @Test
+    void copy_shouldBeIndependentOfOriginal() {
+        board.place(0, 0, 'X');
+        board.place(1, 1, 'O');
+        Board copy = board.copy();
+        assertEquals(board.getHash(), copy.getHash());
+        assertEquals('O', copy.getCell(1, 1));
+
+        copy.place(2, 2, 'X');
+        assertTrue(board.isCellEmpty(2, 2), "Changes to the copy should not affect the original");
+        assertTrue(copy.undo());
+        assertTrue(copy.undo(), "The copy should share the original's history");
+        assertEquals('O', board.getCell(1, 1));
+    }
+
+    @Test
+    void status_shouldFollowPlacementsAndUndo() {
+        assertEquals(GameStatus.IN_PROGRESS, board.status());
+        board.place(0, 0, 'O');
+        board.place(1, 1, 'O');
+        board.place(2, 2, 'O');
+        assertEquals(GameStatus.O_WON, board.status());
+        board.undo();
+        assertEquals(GameStatus.IN_PROGRESS, board.status());
+
+        board.clear();
+        // X O X / X O O / O X X: full without a line.
+        String cells = "XOXXOOOXX";
+        for (int i = 0; i < cells.length(); i++) {
+            board.place(i / 3, i % 3, cells.charAt(i));
+        }
+        assertEquals(GameStatus.DRAW, board.status());
+        board.remove(2, 2);
+        assertEquals(GameStatus.IN_PROGRESS, board.status());
+    }
+
+    @Test
+    void status_shouldReportWinsOnLargeBoards() {
+        Board large = new Board(15, 5);
+        for (int i = 0; i < 5; i++) {
+            large.place(i, i, 'X');
+        }
+        assertEquals(GameStatus.X_WON, large.status());
+    }
+}
@@ -0,0 +1,115 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CliTest {
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    private int run(String... args) {
+        return Cli.run(args, new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    private String output() {
+        return out.toString().trim();
+    }
+
+    @Test
+    void status_shouldReportStatusAndNextPlayerForMoveList() {
+        assertEquals(0, run("status", "1,1", "0,0"));
+        assertEquals("IN_PROGRESS X", output());
+    }
+
+    @Test
+    void status_shouldAcceptCellString() {
+        assertEquals(0, run("status", "XXX.OO..."));
+        assertEquals("X_WON X", output());
+    }
+
+    @Test
+    void status_shouldDetectDraw() {
+        assertEquals(0, run("status", "XOXXOOOXX"));
+        assertEquals("DRAW X", output());
+    }
+
+    @Test
+    void best_shouldFindWinningMove() {
+        assertEquals(0, run("best", "XX.OO...."));
+        assertEquals("0 2", output());
+    }
+
+    @Test
+    void best_shouldReportGameOver() {
+        assertEquals(0, run("best", "0,0", "1,0", "0,1", "1,1", "0,2"));
+        assertEquals("GAME_OVER", output());
+    }
+
+    @Test
+    void best_shouldSearchLargerBoards() {
+        assertEquals(0, run("best", "--board", "5", "4", "2,0", "0,0", "2,1", "0,1", "2,2", "0,2"));
+        String[] move = output().split(" ");
+        assertEquals("2", move[0], "X should complete the row");
+        assertEquals("3", move[1], "X should complete the row");
+    }
+
+    @Test
+    void score_shouldClassifyPositionForSideToMove() {
+        assertEquals(0, run("score"));
+        assertEquals("DRAW", output(), "The empty board is a draw");
+        out.reset();
+        assertEquals(0, run("score", "XX.OO...."));
+        assertEquals("WIN", output());
+    }
+
+    @Test
+    void score_shouldReportGameOverFromSolverAndDatabase(@TempDir Path dir) throws Exception {
+        assertEquals(0, run("score", "XXXOO...."));
+        assertEquals("GAME_OVER", output());
+
+        Path file = dir.resolve("positions.bin");
+        PositionDatabase.generate(file);
+        try (var in = Files.newInputStream(file)) {
+            PositionDatabase database = PositionDatabase.read(in);
+            for (String cells : new String[] {"XXXOO....", "XOXXOOOXX"}) {
+                Board board = new Board();
+                for (int i = 0; i < cells.length(); i++) {
+                    if (cells.charAt(i) != '.') {
+                        board.place(i / 3, i % 3, cells.charAt(i));
+                    }
+                }
+                assertEquals("GAME_OVER", Cli.score(board, 'X', null), cells);
+                assertEquals("GAME_OVER", Cli.score(board, 'X', database), cells);
+            }
+        }
+    }
+
+    @Test
+    void run_shouldRejectBadInput() {
+        assertEquals(2, run("best", "XXXX"));
+        assertEquals(2, run("status", "XXXOOO..."), "Both sides cannot have won");
+        assertEquals(2, run("status", "1,1", "1,1"));
+        assertEquals(2, run("frobnicate"));
+        assertEquals(2, run());
+        assertEquals(2, run("score", "--board", "4", "3"));
+        assertEquals("", out.toString());
+        assertTrue(err.toString().contains("ERR"));
+    }
+
+    @Test
+    void generate_shouldWriteReadablePositionDatabase(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("positions.bin");
+        assertEquals(0, run("generate", file.toString()));
+        try (var in = Files.newInputStream(file)) {
+            PositionDatabase database = PositionDatabase.read(in);
+            assertEquals(0, database.score(new Board()));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new GameEngine();
+    }
+
+    @Test
+    void move_shouldAlternatePlayers() {
+        assertEquals('X', engine.getCurrentMarker(), "X should move first");
+        assertEquals(GameEngine.MoveResult.OK, engine.move(0, 0));
+        assertEquals('O', engine.getCurrentMarker(), "O should move after X");
+        assertEquals('X', engine.getBoard().getCell(0, 0), "X should be placed at (0,0)");
+    }
+
+    @Test
+    void move_shouldRejectInvalidMoves() {
+        assertEquals(GameEngine.MoveResult.OUT_OF_BOUNDS, engine.move(3, 0));
+        engine.move(1, 1);
+        assertEquals(GameEngine.MoveResult.OCCUPIED, engine.move(1, 1));
+        assertEquals('O', engine.getCurrentMarker(), "A rejected move should not change the turn");
+    }
+
+    @Test
+    void move_shouldDetectWinAndStopAcceptingMoves() {
+        engine.move(0, 0);
+        engine.move(1, 0);
+        engine.move(0, 1);
+        engine.move(1, 1);
+        engine.move(0, 2);
+        assertEquals(GameStatus.X_WON, engine.getStatus(), "X should win with the top row");
+        assertEquals(GameEngine.MoveResult.GAME_OVER, engine.move(2, 2));
+    }
+
+    @Test
+    void move_shouldDetectDraw() {
+        int[][] moves = {{0, 0}, {0, 1}, {0, 2}, {1, 2}, {1, 1}, {2, 0}, {2, 1}, {2, 2}, {1, 0}};
+        for (int[] move : moves) {
+            engine.move(move[0], move[1]);
+        }
+        assertEquals(GameStatus.DRAW, engine.getStatus(), "A full board without a line should be a draw");
+    }
+
+    @Test
+    void undo_shouldRestorePreviousState() {
+        engine.move(0, 0);
+        engine.move(1, 0);
+        engine.move(0, 1);
+        engine.move(1, 1);
+        engine.move(0, 2);
+
+        assertTrue(engine.undo(), "Undo should succeed after moves");
+        assertEquals(GameStatus.IN_PROGRESS, engine.getStatus(), "Undoing the winning move should reopen the game");
+        assertEquals('X', engine.getCurrentMarker(), "X should be to move again");
+        assertTrue(engine.getBoard().isCellEmpty(0, 2), "Undone cell should be empty");
+        assertEquals(4, engine.getMoveCount());
+    }
+
+    @Test
+    void undo_shouldReturnFalseWithoutMoves() {
+        assertFalse(engine.undo(), "Nothing to undo on a fresh game");
+    }
+
+    @Test
+    void move_shouldNotWriteToConsole() {
+        PrintStream originalOut = System.out;
+        ByteArrayOutputStream captor = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captor));
+        try {
+            engine.move(0, 0);
+            engine.move(0, 0);
+            engine.undo();
+        } finally {
+            System.setOut(originalOut);
+        }
+        assertEquals(0, captor.size(), "The engine should not print anything");
+    }
+}
@@ -0,0 +1,180 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventPublisherTest {
+
+    /** Records events and requests {@code initialDemand} up front. */
+    private static class Recorder implements Flow.Subscriber<GameEvent> {
+        final List<GameEvent> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        private final long initialDemand;
+        Flow.Subscription subscription;
+
+        Recorder(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(GameEvent item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+
+    @Test
+    void engine_shouldPublishMovesTurnsAndResult() {
+        GameEventPublisher publisher = new GameEventPublisher(Runnable::run, 64);
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        publisher.subscribe(recorder);
+        GameEngine engine = new GameEngine();
+        engine.setEventPublisher(publisher);
+
+        engine.reset();
+        engine.move(0, 0);
+        engine.move(1, 1);
+        engine.undo();
+        engine.move(1, 0);
+        engine.move(0, 2);
+        engine.move(2, 0);
+
+        assertEquals(List.of(
+                new GameEvent.Started(3, 3, 'X'),
+                new GameEvent.Moved('X', 0, 0, 1), new GameEvent.TurnChanged('O'),
+                new GameEvent.Moved('O', 1, 1, 2), new GameEvent.TurnChanged('X'),
+                new GameEvent.Undone('O', 1, 1, 1), new GameEvent.TurnChanged('O'),
+                new GameEvent.Moved('O', 1, 0, 2), new GameEvent.TurnChanged('X'),
+                new GameEvent.Moved('X', 0, 2, 3), new GameEvent.TurnChanged('O'),
+                new GameEvent.Moved('O', 2, 0, 4), new GameEvent.TurnChanged('X')
+        ), recorder.events);
+    }
+
+    @Test
+    void engine_shouldPublishWinAndDraw() {
+        GameEventPublisher publisher = new GameEventPublisher(Runnable::run, 64);
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        publisher.subscribe(recorder);
+        GameEngine engine = new GameEngine();
+        engine.setEventPublisher(publisher);
+
+        for (int[] move : new int[][]{{0, 0}, {1, 0}, {0, 1}, {1, 1}, {0, 2}}) {
+            engine.move(move[0], move[1]);
+        }
+        assertEquals(new GameEvent.Won('X', 5), recorder.events.get(recorder.events.size() - 1));
+
+        engine.reset();
+        for (int cell : new int[]{0, 1, 2, 4, 3, 5, 7, 6, 8}) {
+            engine.move(cell / 3, cell % 3);
+        }
+        assertEquals(new GameEvent.Drawn(9), recorder.events.get(recorder.events.size() - 1));
+    }
+
+    @Test
+    void publish_shouldDropForSlowSubscriberWithoutBlocking() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (GameEventPublisher publisher = new GameEventPublisher(executor, 4)) {
+            Recorder slow = new Recorder(0);
+            Recorder fast = new Recorder(Long.MAX_VALUE);
+            publisher.subscribe(slow);
+            publisher.subscribe(fast);
+
+            for (int i = 0; i < 1_000; i++) {
+                publisher.publish(new GameEvent.TurnChanged(i % 2 == 0 ? 'X' : 'O'));
+            }
+            assertTrue(publisher.getDroppedCount() > 0, "The slow subscriber's buffer should overflow");
+
+            publisher.close();
+            assertTrue(fast.completed.await(5, TimeUnit.SECONDS));
+            slow.subscription.request(Long.MAX_VALUE);
+            assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+            assertTrue(slow.events.size() <= 4, "Slow subscriber should only see what fit in its buffer");
+            assertEquals(2_000, slow.events.size() + fast.events.size() + publisher.getDroppedCount(),
+                    "Every event is either delivered or dropped, per subscriber");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void engine_shouldNotPublishWithoutSubscribers() {
+        GameEventPublisher publisher = new GameEventPublisher(Runnable::run, 4);
+        GameEngine engine = new GameEngine();
+        engine.setEventPublisher(publisher);
+        engine.move(1, 1);
+        assertFalse(publisher.hasSubscribers());
+        assertEquals(0, publisher.getDroppedCount());
+    }
+
+    @Test
+    void ticTacToe_shouldStreamBotGame() {
+        TicTacToe game = new TicTacToe(3, 3, new PerfectStrategy(), new PerfectStrategy());
+        game.setRenderer(new BoardRenderer(BoardRenderer.NO_OP));
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        game.getEvents().subscribe(recorder);
+        try {
+            game.start();
+        } finally {
+            game.closeScanner();
+        }
+        game.getEvents().close();
+        try {
+            assertTrue(recorder.completed.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            fail(e);
+        }
+        assertEquals(new GameEvent.Drawn(9), recorder.events.get(recorder.events.size() - 1));
+        assertEquals(9, recorder.events.stream().filter(e -> e instanceof GameEvent.Moved).count());
+    }
+
+    @Test
+    void makeMove_shouldPublishWin() {
+        TicTacToe game = new TicTacToe();
+        game.setRenderer(new BoardRenderer(BoardRenderer.NO_OP));
+        Recorder recorder = new Recorder(Long.MAX_VALUE);
+        game.getEvents().subscribe(recorder);
+        game.makeMove(0, 0);
+        game.switchCurrentPlayer();
+        game.makeMove(1, 0);
+        game.switchCurrentPlayer();
+        game.makeMove(0, 1);
+        game.switchCurrentPlayer();
+        game.makeMove(1, 1);
+        game.switchCurrentPlayer();
+        game.makeMove(0, 2);
+        game.getEvents().close();
+        try {
+            assertTrue(recorder.completed.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            fail(e);
+        }
+        List<GameEvent> events = recorder.events;
+        assertEquals(new GameEvent.Moved('X', 0, 2, 5), events.get(events.size() - 2));
+        assertEquals(new GameEvent.Won('X', 5), events.get(events.size() - 1));
+    }
+}
@@ -0,0 +1,206 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+
+    @Test
+    void recordMove_shouldSeparateValidAndInvalidMoves() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.recordMove(GameEngine.MoveResult.OK, 100);
+        metrics.recordMove(GameEngine.MoveResult.OK, 300);
+        metrics.recordMove(GameEngine.MoveResult.OCCUPIED, 50);
+        metrics.recordMove(GameEngine.MoveResult.OUT_OF_BOUNDS, 50);
+
+        assertEquals(2, metrics.getMoveCount());
+        assertEquals(2, metrics.getInvalidMoveCount());
+        assertEquals(0.5, metrics.getInvalidMoveRate(), 1e-9);
+        assertEquals(300, metrics.getMoveLatencyMaxNanos());
+        assertTrue(metrics.getMovesPerSecond() > 0);
+    }
+
+    @Test
+    void finishMove_shouldCountUntimedMovesWithoutLatency() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.finishMove(GameEngine.MoveResult.OK, GameMetrics.UNTIMED);
+        metrics.finishMove(GameEngine.MoveResult.OCCUPIED, GameMetrics.UNTIMED);
+        assertEquals(1, metrics.getMoveCount());
+        assertEquals(1, metrics.getInvalidMoveCount());
+        assertEquals(0, metrics.getMoveLatencyMaxNanos());
+
+        metrics.finishMove(GameEngine.MoveResult.OK, System.nanoTime());
+        assertEquals(2, metrics.getMoveCount());
+        assertTrue(metrics.getMoveLatencyMaxNanos() >= 0);
+    }
+
+    @Test
+    void startMove_shouldSampleOneMoveInSampleRate() {
+        int timed = 0;
+        int moves = 100_000;
+        for (int i = 0; i < moves; i++) {
+            if (GameMetrics.startMove() != GameMetrics.UNTIMED) {
+                timed++;
+            }
+        }
+        int expected = moves / GameMetrics.LATENCY_SAMPLE_RATE;
+        assertTrue(Math.abs(timed - expected) < expected / 5, "Timed " + timed + " of " + moves);
+    }
+
+    @Test
+    void recordGame_shouldTrackResultsAndLength() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.recordGame(GameStatus.X_WON, 5);
+        metrics.recordGame(GameStatus.DRAW, 9);
+        metrics.recordGame(GameStatus.DRAW, 9);
+        metrics.recordGame(GameStatus.O_WON, 6);
+
+        assertEquals(4, metrics.getGameCount());
+        assertEquals(1, metrics.getXWinCount());
+        assertEquals(1, metrics.getOWinCount());
+        assertEquals(0.5, metrics.getDrawRatio(), 1e-9);
+        assertEquals(6, metrics.getGameLengthP50());
+        assertEquals(9, metrics.getGameLengthMax());
+        assertThrows(IllegalArgumentException.class, () -> metrics.recordGame(GameStatus.IN_PROGRESS, 3));
+    }
+
+    @Test
+    void reset_shouldClearEverything() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.recordMove(GameEngine.MoveResult.OK, 100);
+        metrics.recordGame(GameStatus.DRAW, 9);
+        metrics.countIsFull();
+        metrics.countHasWinner();
+        metrics.reset();
+
+        assertEquals(0, metrics.getMoveCount());
+        assertEquals(0, metrics.getGameCount());
+        assertEquals(0, metrics.getMoveLatencyMaxNanos());
+        assertEquals(0, metrics.getIsFullCalls());
+        assertEquals(0, metrics.getHasWinnerCalls());
+        assertEquals(0, metrics.getInvalidMoveRate());
+    }
+
+    @Test
+    void dump_shouldSummarizeCounters() {
+        GameMetrics metrics = new GameMetrics();
+        metrics.recordMove(GameEngine.MoveResult.OK, 100);
+        metrics.recordGame(GameStatus.X_WON, 5);
+        String dump = metrics.dump();
+        assertTrue(dump.contains("moves=1"), dump);
+        assertTrue(dump.contains("games=1 X=1 O=0 draws=0"), dump);
+    }
+
+    @Test
+    void startReporter_shouldPrintPeriodically() throws Exception {
+        GameMetrics metrics = new GameMetrics();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AutoCloseable reporter = metrics.startReporter(Duration.ofMillis(10), new PrintStream(out, true))) {
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (out.size() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+        assertTrue(out.toString().contains("moves=0"), "Reporter should have printed a dump");
+    }
+
+    @Test
+    void global_shouldBeRegisteredWithJmx() throws Exception {
+        GameMetrics.global().recordGame(GameStatus.DRAW, 9);
+        Object draws = ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(new ObjectName(GameMetrics.OBJECT_NAME), "DrawCount");
+        assertTrue((Long) draws >= 1);
+    }
+
+    @Test
+    void recordMove_shouldMergeConcurrentThreads() throws Exception {
+        GameMetrics metrics = new GameMetrics();
+        int threads = 8;
+        int movesPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                long nanos = 100 + t;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < movesPerThread; i++) {
+                        metrics.recordMove(GameEngine.MoveResult.OK, nanos);
+                        metrics.recordGame(GameStatus.DRAW, 9);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(threads * movesPerThread, metrics.getMoveCount());
+        assertEquals(threads * movesPerThread, metrics.getDrawCount());
+        assertEquals(100 + threads - 1, metrics.getMoveLatencyMaxNanos());
+        assertEquals(9, metrics.getGameLengthMax());
+    }
+
+    @Test
+    void enabled_shouldInstrumentGamesInForkedJvm() throws Exception {
+        // ENABLED is fixed when the class loads, so the instrumented build runs in its own JVM.
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(arg -> arg.equals("--enable-preview")).toList());
+        command.add("-Dorg.game.metrics=true");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(BotGame.class.getName());
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        assertEquals(0, process.exitValue(), output);
+
+        String[] counters = output.lines().reduce((first, second) -> second).orElseThrow().split(" ");
+        assertEquals("true", counters[0], output);
+        assertEquals("10", counters[1], "Every move of the drawn game and the legacy move should be counted");
+        assertEquals("1", counters[2], "The game should be counted as a draw");
+        assertEquals("9", counters[3], "Game length");
+        assertEquals("1", counters[4], "Board.isFull calls should be counted");
+        assertEquals("1", counters[5], "TicTacToe.hasWinner calls should be counted");
+    }
+
+    /** Plays one perfect game and one legacy API move without console output, then prints the global metrics. */
+    static final class BotGame {
+        public static void main(String[] args) {
+            TicTacToe game = new TicTacToe(3, 3, new PerfectStrategy(), new PerfectStrategy());
+            game.setRenderer(new BoardRenderer(BoardRenderer.NO_OP));
+            game.start();
+            game.reset();
+            game.makeMove(1, 1);
+            game.hasWinner();
+            game.getBoard().isFull();
+            GameMetrics metrics = GameMetrics.global();
+            System.out.println(GameMetrics.ENABLED + " " + metrics.getMoveCount() + " " + metrics.getDrawCount()
+                    + " " + metrics.getGameLengthMax() + " " + metrics.getIsFullCalls()
+                    + " " + metrics.getHasWinnerCalls());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRecordTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static void playRandomGame(GameEngine engine, RandomStrategy strategy, char startingMarker) {
+        engine.reset(startingMarker);
+        int size = engine.getBoard().getSize();
+        while (engine.getStatus() == GameStatus.IN_PROGRESS) {
+            int cell = strategy.chooseMove(engine.getBoard(), engine.getCurrentMarker());
+            engine.move(cell / size, cell % size);
+        }
+    }
+
+    @Test
+    void writeAndRead_shouldRoundTripGamesThroughFile() {
+        Path file = tempDir.resolve("games.bin");
+        GameEngine engine = new GameEngine();
+        RandomStrategy strategy = new RandomStrategy(new SplittableRandom(7));
+        GameStatus[] results = new GameStatus[10_000];
+        long[] hashes = new long[results.length];
+
+        try (GameRecordWriter writer = GameRecordWriter.create(file, 3, 3)) {
+            for (int i = 0; i < results.length; i++) {
+                playRandomGame(engine, strategy, i % 2 == 0 ? 'X' : 'O');
+                writer.write(engine);
+                results[i] = engine.getStatus();
+                hashes[i] = engine.getBoard().getHash();
+            }
+            assertEquals(results.length, writer.getRecordCount());
+        }
+
+        Board board = new Board();
+        int count = 0;
+        try (GameRecordReader reader = GameRecordReader.open(file)) {
+            assertEquals(3, reader.getSize());
+            assertEquals(3, reader.getWinLength());
+            while (reader.next()) {
+                assertEquals(results[count], reader.getResult(), "Result of game " + count);
+                assertEquals(count % 2 == 0 ? 'X' : 'O', reader.getStartingMarker(), "Starting player of game " + count);
+                reader.replay(board);
+                assertEquals(hashes[count], board.getHash(), "Replayed position of game " + count);
+                count++;
+            }
+        }
+        assertEquals(results.length, count, "Every written game should be read back");
+    }
+
+    @Test
+    void write_shouldUseOneBytePerMove() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GameRecordWriter writer = new GameRecordWriter(Channels.newChannel(out), 3, 3)) {
+            writer.write(GameStatus.X_WON, 'X', new byte[]{0, 3, 1, 4, 2}, 5);
+        }
+        assertEquals(7 + 2 + 5, out.size(), "Header, two record bytes and five move bytes");
+
+        try (GameRecordReader reader = new GameRecordReader(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())))) {
+            assertTrue(reader.next());
+            assertEquals(5, reader.getMoveCount());
+            assertEquals(4, reader.getMove(3));
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void write_shouldRejectBadMoveCounts() {
+        try (GameRecordWriter writer = new GameRecordWriter(Channels.newChannel(new ByteArrayOutputStream()), 3, 3)) {
+            byte[] moves = new byte[300];
+            assertThrows(IllegalArgumentException.class, () -> writer.write(GameStatus.DRAW, 'X', moves, 256));
+            assertThrows(IllegalArgumentException.class, () -> writer.write(GameStatus.DRAW, 'X', moves, 10));
+            assertThrows(IllegalArgumentException.class, () -> writer.write(GameStatus.DRAW, 'X', new byte[4], 5));
+            assertThrows(IllegalArgumentException.class, () -> writer.write(GameStatus.DRAW, 'X', moves, -1));
+            assertEquals(0, writer.getRecordCount());
+        }
+    }
+
+    @Test
+    void replay_shouldUseRecordedWinLength() throws Exception {
+        Path file = tempDir.resolve("connect4.bin");
+        try (GameRecordWriter writer = GameRecordWriter.create(file, 5, 4)) {
+            writer.write(GameStatus.IN_PROGRESS, 'X', new byte[]{0, 5, 1, 6, 2}, 5);
+        }
+        try (GameRecordReader reader = GameRecordReader.open(file)) {
+            assertTrue(reader.next());
+            Board board = reader.replay();
+            assertEquals(4, board.getWinLength());
+            assertEquals(GameStatus.IN_PROGRESS, board.status(), "Three in a row does not win with a win length of 4");
+            assertThrows(IllegalArgumentException.class, () -> reader.replay(new Board(5, 3)));
+        }
+    }
+
+    @Test
+    void next_shouldRejectTruncatedRecord() throws Exception {
+        Path file = tempDir.resolve("truncated.bin");
+        try (GameRecordWriter writer = GameRecordWriter.create(file, 3, 3)) {
+            writer.write(GameStatus.DRAW, 'X', new byte[]{4, 0, 8, 2, 6, 3, 5, 1, 7}, 9);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+
+        try (GameRecordReader reader = GameRecordReader.open(file)) {
+            assertThrows(IllegalStateException.class, reader::next);
+        }
+    }
+
+    @Test
+    void open_shouldRejectForeignStream() {
+        byte[] garbage = {1, 2, 3, 4, 5, 6, 7, 8};
+        assertThrows(IllegalStateException.class,
+                () -> new GameRecordReader(Channels.newChannel(new ByteArrayInputStream(garbage))));
+    }
+}
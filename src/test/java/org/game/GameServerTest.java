@@ -0,0 +1,37 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTest {
+
+    @Test
+    void server_shouldAnswerProtocolCommands() throws Exception {
+        try (GameServer server = new GameServer(0);
+             Socket socket = new Socket("localhost", server.getPort());
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+            out.println("MOVE 1 1");
+            assertEquals("OK O IN_PROGRESS", in.readLine());
+            out.println("QUIT");
+            assertEquals("BYE", in.readLine());
+            assertNull(in.readLine(), "Server should close the connection after QUIT");
+        }
+    }
+
+    @Test
+    void loadTestClient_shouldCompleteAllGamesAcrossConcurrentSessions() throws Exception {
+        try (GameServer server = new GameServer(0)) {
+            LoadTestClient.Report report = LoadTestClient.run("localhost", server.getPort(), 50, 20);
+            assertEquals(1_000, report.games(), "Every session should finish all of its games");
+            assertTrue(report.latencies().getCount() > 1_000, "Every request should be timed");
+        }
+    }
+}
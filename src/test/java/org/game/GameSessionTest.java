@@ -0,0 +1,79 @@
+package org.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionTest {
+
+    private GameSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = new GameSession(new Solver());
+    }
+
+    @Test
+    void handle_shouldPlayAGameToAWin() {
+        assertEquals("OK X IN_PROGRESS", session.handle("NEW"));
+        assertEquals("OK O IN_PROGRESS", session.handle("MOVE 0 0"));
+        session.handle("MOVE 1 0");
+        session.handle("MOVE 0 1");
+        session.handle("MOVE 1 1");
+        assertEquals("OK X X_WON", session.handle("move 0 2"), "Commands should be case-insensitive");
+        assertEquals("ERR GAME_OVER", session.handle("MOVE 2 2"));
+    }
+
+    @Test
+    void handle_shouldReportInvalidMoves() {
+        session.handle("MOVE 1 1");
+        assertEquals("ERR OCCUPIED", session.handle("MOVE 1 1"));
+        assertEquals("ERR OUT_OF_BOUNDS", session.handle("MOVE 3 0"));
+        assertEquals("ERR BAD_ARGUMENTS", session.handle("MOVE a b"));
+        assertEquals("ERR UNKNOWN_COMMAND", session.handle("JUMP"));
+    }
+
+    @Test
+    void handle_shouldReportStateAndUndo() {
+        session.handle("MOVE 0 0");
+        session.handle("MOVE 2 2");
+        assertEquals("STATE X.......O X IN_PROGRESS", session.handle("STATE"));
+        assertEquals("OK O IN_PROGRESS", session.handle("UNDO"));
+        assertEquals("STATE X........ O IN_PROGRESS", session.handle("STATE"));
+    }
+
+    @Test
+    void handle_shouldSuggestBestMove() {
+        session.handle("MOVE 0 0");
+        session.handle("MOVE 1 0");
+        session.handle("MOVE 0 1");
+        session.handle("MOVE 1 1");
+        assertEquals("BEST 0 2", session.handle("BEST"));
+    }
+
+    @Test
+    void handle_shouldStartConfiguredBoard() {
+        assertEquals("OK X IN_PROGRESS", session.handle("NEW 4 3"));
+        assertEquals("OK O IN_PROGRESS", session.handle("MOVE 3 3"));
+        assertEquals("ERR UNSUPPORTED", session.handle("BEST"));
+        assertEquals("ERR BAD_ARGUMENTS", session.handle("NEW 3 4"));
+    }
+
+    @Test
+    void handle_shouldRejectOversizedBoards() {
+        assertEquals("ERR BAD_ARGUMENTS", session.handle("NEW 50000 5"));
+        assertEquals("ERR BAD_ARGUMENTS", session.handle("NEW 46341 5"));
+        assertEquals("ERR BAD_ARGUMENTS", session.handle("NEW " + (GameSession.MAX_BOARD_SIZE + 1) + " 5"));
+        assertEquals("ERR BAD_ARGUMENTS", session.handle("NEW 0 0"));
+        assertEquals("OK X IN_PROGRESS", session.handle("NEW " + GameSession.MAX_BOARD_SIZE + " 5"));
+        assertEquals("STATE " + ".".repeat(GameSession.MAX_BOARD_SIZE * GameSession.MAX_BOARD_SIZE) + " X IN_PROGRESS",
+                session.handle("STATE"));
+    }
+
+    @Test
+    void handle_shouldCloseOnQuit() {
+        assertEquals("BYE", session.handle("QUIT"));
+        assertTrue(session.isClosed());
+    }
+}
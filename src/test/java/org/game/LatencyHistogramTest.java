@@ -0,0 +1,46 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void bucket_shouldRoundTripThroughLowerBound() {
+        long[] values = {0, 1, 63, 64, 65, 127, 128, 1_000, 123_456_789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucket(value);
+            assertTrue(bucket < LatencyHistogram.BUCKETS, "Bucket out of range for " + value);
+            long lower = LatencyHistogram.lowerBound(bucket);
+            assertTrue(lower <= value, "Lower bound should not exceed " + value);
+            assertTrue(value - lower <= Math.max(1, value / 32), "Bucket should be within ~3% of " + value);
+        }
+    }
+
+    @Test
+    void getValueAtPercentile_shouldReturnApproximatePercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000, histogram.getMax());
+        assertEquals(5_000, histogram.getValueAtPercentile(50), 5_000 / 32.0);
+        assertEquals(9_900, histogram.getValueAtPercentile(99), 9_900 / 32.0);
+    }
+
+    @Test
+    void add_shouldMergeCounts() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.record(10);
+        b.record(1_000);
+        a.add(b);
+        assertEquals(2, a.getCount());
+        assertEquals(1_000, a.getMax());
+        a.reset();
+        assertEquals(0, a.getCount());
+        assertEquals(0, a.getValueAtPercentile(50));
+    }
+}
@@ -0,0 +1,86 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveInputReaderTest {
+
+    private static MoveInputReader reader(String input) {
+        return new MoveInputReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void next_shouldSplitOnAnyWhitespace() {
+        MoveInputReader reader = reader("  1\t2\r\n\n 30 \f-4");
+        int[] expected = {1, 2, 30, -4};
+        for (int value : expected) {
+            assertTrue(reader.next());
+            assertTrue(reader.isInt());
+            assertEquals(value, reader.intValue());
+        }
+        assertFalse(reader.next(), "Input should be exhausted");
+        assertFalse(reader.isInt());
+    }
+
+    @Test
+    void isInt_shouldRejectNonNumbersAndOverflow() {
+        MoveInputReader reader = reader("abc 1x - + 2147483648 -2147483649 +7 2147483647 -2147483648");
+        for (int i = 0; i < 6; i++) {
+            assertTrue(reader.next());
+            assertFalse(reader.isInt(), "Token " + i + " should not be a number");
+        }
+        assertThrows(IllegalStateException.class, reader::intValue);
+        int[] expected = {7, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int value : expected) {
+            assertTrue(reader.next());
+            assertEquals(value, reader.intValue());
+        }
+    }
+
+    @Test
+    void letter_shouldLowerCaseSingleLetters() {
+        MoveInputReader reader = reader("y N yes 1 ?");
+        char[] expected = {'y', 'n', 0, 0, 0};
+        for (char letter : expected) {
+            assertTrue(reader.next());
+            assertEquals(letter, reader.letter());
+        }
+    }
+
+    @Test
+    void next_shouldHandleTokensLongerThanOneRead() {
+        // Hands out one byte per read, so every token spans several buffer refills.
+        String script = "123456789 " + "z".repeat(100) + " 42";
+        byte[] bytes = script.getBytes(StandardCharsets.US_ASCII);
+        InputStream trickle = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                return position < bytes.length ? bytes[position++] : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (position == bytes.length) {
+                    return -1;
+                }
+                b[off] = bytes[position++];
+                return 1;
+            }
+        };
+        MoveInputReader reader = new MoveInputReader(trickle);
+        assertTrue(reader.next());
+        assertEquals(123456789, reader.intValue());
+        assertTrue(reader.next());
+        assertFalse(reader.isInt());
+        assertTrue(reader.next());
+        assertEquals(42, reader.intValue());
+        assertFalse(reader.next());
+    }
+}
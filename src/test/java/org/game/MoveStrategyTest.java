@@ -0,0 +1,97 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveStrategyTest {
+
+    private static Board threatBoard() {
+        // X threatens the top row, O threatens the middle row; X to move.
+        Board board = new Board();
+        board.place(0, 0, 'X');
+        board.place(1, 0, 'O');
+        board.place(0, 1, 'X');
+        board.place(1, 1, 'O');
+        return board;
+    }
+
+    @Test
+    void greedy_shouldPreferWinningOverBlocking() {
+        assertEquals(2, new GreedyStrategy().chooseMove(threatBoard(), 'X'), "X should complete the top row");
+    }
+
+    @Test
+    void greedy_shouldBlockOpponentWin() {
+        Board board = new Board();
+        board.place(0, 0, 'X');
+        board.place(0, 1, 'X');
+        board.place(1, 1, 'O');
+        assertEquals(2, new GreedyStrategy().chooseMove(board, 'O'), "O should block the top row");
+    }
+
+    @Test
+    void greedy_shouldOpenInTheCenter() {
+        assertEquals(4, new GreedyStrategy().chooseMove(new Board(), 'X'));
+    }
+
+    @Test
+    void greedy_shouldLeaveBoardUnchanged() {
+        Board board = threatBoard();
+        long hash = board.getHash();
+        new GreedyStrategy().chooseMove(board, 'O');
+        assertEquals(hash, board.getHash(), "Looking ahead must not modify the board");
+    }
+
+    @Test
+    void minimax_shouldFindWinAndBlock() {
+        MinimaxStrategy minimax = new MinimaxStrategy(9, Duration.ofSeconds(1));
+        assertEquals(2, minimax.chooseMove(threatBoard(), 'X'), "X should win immediately");
+        assertEquals(5, minimax.chooseMove(threatBoard(), 'O'), "O should win immediately");
+        assertTrue(minimax.getNodeCount() > 0);
+    }
+
+    @Test
+    void minimax_shouldRespectTimeBudgetOnLargeBoard() {
+        Board board = new Board(15, 5);
+        board.place(7, 7, 'X');
+        MinimaxStrategy minimax = new MinimaxStrategy(10, Duration.ofMillis(50));
+        // A full depth-10 search of this board would run for hours; the bound only proves the budget stopped it.
+        int move = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> minimax.chooseMove(board, 'O'));
+        assertTrue(board.isCellEmpty(move / 15, move % 15), "Chosen cell should be empty");
+        assertEquals(1, board.getFilledCount(), "Search must restore the board");
+    }
+
+    @Test
+    void perfect_shouldNeverLoseToGreedyOrMinimax() {
+        Simulator asX = new Simulator(PerfectStrategy::new, GreedyStrategy::new);
+        assertEquals(0, asX.run(10).oWins(), "Perfect play as X should not lose");
+        Simulator asO = new Simulator(() -> new MinimaxStrategy(2, Duration.ofMillis(100)), PerfectStrategy::new);
+        assertEquals(0, asO.run(10).xWins(), "Perfect play as O should not lose");
+    }
+
+    @Test
+    void searches_shouldPlayWithUnlimitedBudget() {
+        Board board = new Board();
+        board.place(0, 0, 'X');
+        board.place(1, 0, 'O');
+        board.place(0, 1, 'X');
+        board.place(1, 1, 'O');
+        assertEquals(2, new MinimaxStrategy(9, MoveStrategy.UNLIMITED).chooseMove(board, 'X'));
+        assertEquals(2, new ParallelSearch(9, MoveStrategy.UNLIMITED).chooseMove(board, 'X'));
+        assertEquals(Long.MAX_VALUE, MoveStrategy.budgetNanos(MoveStrategy.UNLIMITED));
+        assertEquals(5_000_000, MoveStrategy.budgetNanos(Duration.ofMillis(5)));
+    }
+
+    @Test
+    void strategies_shouldDeclareTimeBudgets() {
+        assertTrue(new RandomStrategy().getTimeBudget().compareTo(Duration.ofMillis(1)) < 0);
+        assertTrue(new GreedyStrategy().getTimeBudget().compareTo(Duration.ofMillis(1)) <= 0);
+        assertEquals(Duration.ofMillis(20), new MinimaxStrategy(3, Duration.ofMillis(20)).getTimeBudget());
+        assertTrue(new PerfectStrategy().getTimeBudget().compareTo(Duration.ofMillis(1)) < 0);
+        MoveStrategy lambda = (board, marker) -> 0;
+        assertEquals(MoveStrategy.UNLIMITED, lambda.getTimeBudget());
+    }
+}
@@ -0,0 +1,114 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSearchTest {
+
+    @Test
+    void search_shouldPreferWinningOverBlocking() {
+        Board board = new Board();
+        board.place(0, 0, 'X');
+        board.place(1, 0, 'O');
+        board.place(0, 1, 'X');
+        board.place(1, 1, 'O');
+        ParallelSearch.Result result = new ParallelSearch(9, Duration.ofSeconds(5)).search(board, 'X');
+        assertEquals(2, result.move(), "X should complete the top row");
+        assertTrue(result.score() > 0, "A forced win should score positively");
+        assertEquals(4, board.getFilledCount(), "The caller's board must not change");
+    }
+
+    @Test
+    void search_shouldNotReuseEntriesAcrossSides() {
+        Board board = new Board();
+        board.place(0, 0, 'X');
+        board.place(1, 1, 'O');
+        ParallelSearch search = new ParallelSearch(9, Duration.ofSeconds(30));
+        search.search(board, 'O');
+        ParallelSearch.Result result = search.search(board, 'X');
+        assertEquals(new Solver().evaluate(board, 'X'), Integer.signum(result.score()),
+                "Entries stored for O to move must not score the position for X");
+        assertEquals(0, result.score(), "The position is a draw");
+    }
+
+    @Test
+    void search_shouldNotReuseEntriesAcrossBoardRules() {
+        ParallelSearch search = new ParallelSearch(9, Duration.ofSeconds(30));
+        assertTrue(search.search(new Board(4, 3), 'X').score() > 0, "Three in a row on 4x4 is a first-player win");
+        ParallelSearch.Result result = search.search(new Board(), 'X');
+        assertEquals(0, result.score(), "Entries stored for the 4x4 board must not score the 3x3 board");
+    }
+
+    @Test
+    void constructor_shouldRejectBadTableSizes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelSearch(3, Duration.ofSeconds(1), ForkJoinPool.commonPool(), 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelSearch(3, Duration.ofSeconds(1), ForkJoinPool.commonPool(), 40));
+    }
+
+    @Test
+    void search_shouldAgreeWithSolverOnEmptyBoard() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelSearch.Result result = new ParallelSearch(9, Duration.ofSeconds(30), pool).search(new Board(), 'X');
+            assertEquals(9, result.depth(), "The full tree should be searched");
+            assertEquals(0, result.score(), "Perfect play from the empty board is a draw");
+            assertEquals(new Solver().evaluate(new Board(), 'X'), Integer.signum(result.score()));
+            assertTrue(result.nodes() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void search_shouldFindOpenFourOnLargeBoard() {
+        Board board = new Board(15, 5);
+        for (int y = 5; y < 9; y++) {
+            board.place(7, y, 'X');
+        }
+        board.place(0, 0, 'O');
+        board.place(0, 1, 'O');
+        board.place(0, 2, 'O');
+        ParallelSearch.Result result = new ParallelSearch(3, Duration.ofSeconds(5)).search(board, 'X');
+        assertTrue(result.move() == 7 * 15 + 4 || result.move() == 7 * 15 + 9, "X should complete five: " + result.move());
+    }
+
+    @Test
+    void search_shouldStopAtDeadline() {
+        Board board = new Board(15, 5);
+        board.place(7, 7, 'X');
+        ParallelSearch search = new ParallelSearch(20, Duration.ofMillis(100));
+        // The bound only proves the deadline stopped a search that would otherwise not finish.
+        ParallelSearch.Result result = assertTimeoutPreemptively(Duration.ofSeconds(30), () -> search.search(board, 'O'));
+        assertTrue(result.depth() < 20, "Deadline should cut the search short");
+        assertTrue(board.isCellEmpty(result.move() / 15, result.move() % 15), "Chosen cell should be empty");
+        assertTrue(result.nodesPerSecond() > 0);
+    }
+
+    @Test
+    void search_shouldReturnNoMoveWhenGameIsOver() {
+        Board board = new Board();
+        board.place(0, 0, 'X');
+        board.place(0, 1, 'X');
+        board.place(0, 2, 'X');
+        assertEquals(-1, new ParallelSearch(3, Duration.ofSeconds(1)).chooseMove(board, 'O'));
+    }
+
+    @Test
+    void transpositionTable_shouldRoundTripEntries() {
+        ParallelSearch.TranspositionTable table = new ParallelSearch.TranspositionTable(4);
+        assertEquals(ParallelSearch.TranspositionTable.EMPTY, table.probe(42));
+        table.store(42, 224, 12, 2, -999_990);
+        long entry = table.probe(42);
+        assertEquals(224, ParallelSearch.TranspositionTable.move(entry));
+        assertEquals(12, ParallelSearch.TranspositionTable.depth(entry));
+        assertEquals(2, ParallelSearch.TranspositionTable.bound(entry));
+        assertEquals(-999_990, ParallelSearch.TranspositionTable.score(entry));
+        assertEquals(ParallelSearch.TranspositionTable.EMPTY, table.probe(42 + 16), "A different key in the same slot should miss");
+    }
+}
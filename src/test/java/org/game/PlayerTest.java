@@ -23,4 +23,18 @@ class PlayerTest {
         Player player = new Player('A');
         assertEquals('A', player.getMarker(), "Marker should be 'A'");
     }
-}
\ No newline at end of file
+
+    @Test
+    void chooseMove_shouldDelegateToStrategy() {
+        Player player = new Player('O', (board, marker) -> marker == 'O' ? 4 : -1);
+        assertEquals(4, player.chooseMove(new Board()), "Player should ask its strategy with its own marker");
+        assertFalse(player.isInteractive(), "Code-driven players are not interactive");
+    }
+
+    @Test
+    void chooseMove_shouldFailWithoutStrategy() {
+        Player player = new Player('X');
+        assertNull(player.getStrategy());
+        assertThrows(IllegalStateException.class, () -> player.chooseMove(new Board()));
+    }
+}
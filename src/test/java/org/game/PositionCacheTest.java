@@ -0,0 +1,122 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionCacheTest {
+
+    @ParameterizedTest
+    @EnumSource(PositionCache.EvictionPolicy.class)
+    void getAndPut_shouldStoreValuesAndCountHitsAndMisses(PositionCache.EvictionPolicy policy) {
+        PositionCache cache = new PositionCache(100, policy);
+        assertEquals(PositionCache.MISSING, cache.get(42L));
+        cache.put(42L, 7);
+        assertEquals(7, cache.get(42L));
+        cache.put(42L, 8);
+        assertEquals(8, cache.get(42L), "Putting an existing key should replace its value");
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(PositionCache.EvictionPolicy.class)
+    void put_shouldNeverExceedCapacity(PositionCache.EvictionPolicy policy) {
+        PositionCache cache = new PositionCache(1_000, policy);
+        for (long key = 0; key < 50_000; key++) {
+            cache.put(key * 31, (int) key);
+        }
+        assertTrue(cache.size() <= 1_000, "Cache should stay within its capacity");
+        assertEquals(50_000 - cache.size(), cache.getEvictionCount(), "Every entry that left should be counted");
+    }
+
+    @Test
+    void lru_shouldEvictLeastRecentlyUsedEntry() {
+        PositionCache cache = new PositionCache(3, PositionCache.EvictionPolicy.LRU);
+        cache.put(1, 1);
+        cache.put(2, 2);
+        cache.put(3, 3);
+        cache.get(1);
+        cache.put(4, 4);
+        assertEquals(PositionCache.MISSING, cache.get(2), "Key 2 was least recently used");
+        assertEquals(1, cache.get(1));
+        assertEquals(3, cache.get(3));
+        assertEquals(4, cache.get(4));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(PositionCache.EvictionPolicy.class)
+    void put_shouldOnlyProtectFrequentEntriesWithTinyLfu(PositionCache.EvictionPolicy policy) {
+        PositionCache cache = new PositionCache(200, policy);
+        for (int round = 0; round < 20; round++) {
+            for (long key = 0; key < 100; key++) {
+                cache.computeIfAbsent(key, k -> (int) k);
+            }
+        }
+        for (long key = 1_000; key < 2_000; key++) {
+            cache.put(key, 0);
+        }
+        int kept = 0;
+        for (long key = 0; key < 100; key++) {
+            if (cache.get(key) != PositionCache.MISSING) {
+                kept++;
+            }
+        }
+        if (policy == PositionCache.EvictionPolicy.TINY_LFU) {
+            assertTrue(kept >= 90, "Frequent positions should survive a scan of one-off positions, kept " + kept);
+        } else {
+            assertEquals(0, kept, "LRU should flush everything during a long scan");
+        }
+    }
+
+    @Test
+    void computeIfAbsent_shouldOnlyComputeOnMiss() {
+        PositionCache cache = new PositionCache(10, PositionCache.EvictionPolicy.LRU);
+        int[] calls = new int[1];
+        assertEquals(5, cache.computeIfAbsent(9L, k -> ++calls[0] + 4));
+        assertEquals(5, cache.computeIfAbsent(9L, k -> ++calls[0] + 4));
+        assertEquals(1, calls[0], "Loader should run once");
+    }
+
+    @Test
+    void put_shouldRejectMissingSentinel() {
+        PositionCache cache = new PositionCache(10, PositionCache.EvictionPolicy.LRU);
+        assertThrows(IllegalArgumentException.class, () -> cache.put(1L, PositionCache.MISSING));
+    }
+
+    @ParameterizedTest
+    @EnumSource(PositionCache.EvictionPolicy.class)
+    void cache_shouldStayConsistentUnderConcurrentAccess(PositionCache.EvictionPolicy policy) throws Exception {
+        PositionCache cache = new PositionCache(4_096, policy);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 100_000; i++) {
+                        long key = random.nextInt(10_000);
+                        int value = cache.computeIfAbsent(key, k -> (int) (k * 3));
+                        assertEquals(key * 3, value, "Cached value should belong to its key");
+                    }
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertEquals(400_000, cache.getHitCount() + cache.getMissCount(), "Every lookup should be counted once");
+        assertTrue(cache.size() <= 4_096);
+    }
+}
@@ -0,0 +1,90 @@
+package org.game;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionDatabaseTest {
+
+    @TempDir
+    static Path tempDir;
+
+    private static PositionDatabase database;
+
+    @BeforeAll
+    static void setUp() {
+        database = PositionDatabase.openOrGenerate(tempDir.resolve("positions.bin"));
+    }
+
+    @Test
+    void generate_shouldContainEveryReachablePosition() {
+        int count = 0;
+        for (int index = 0; index < PositionDatabase.POSITIONS; index++) {
+            Board board = new Board();
+            int rest = index;
+            for (int cell = 0; cell < 9; cell++, rest /= 3) {
+                if (rest % 3 == 1) {
+                    board.place(cell / 3, cell % 3, 'X');
+                } else if (rest % 3 == 2) {
+                    board.place(cell / 3, cell % 3, 'O');
+                }
+            }
+            if (database.contains(board)) {
+                count++;
+            }
+        }
+        assertEquals(5_478, count, "Tic-tac-toe has 5,478 positions reachable with X first");
+    }
+
+    @Test
+    void score_shouldMatchSolver() {
+        Board board = new Board();
+        assertEquals(0, database.score(board), "The empty board is a draw");
+        board.place(0, 0, 'X');
+        board.place(0, 1, 'O');
+        assertEquals(new Solver().evaluate(board, 'X'), database.score(board), "Database should agree with the solver");
+        assertTrue(database.score(board) > 0, "X wins after O answers a corner with an adjacent edge");
+    }
+
+    @Test
+    void bestMoves_shouldListAllOptimalMoves() {
+        Board board = new Board();
+        board.place(0, 0, 'X');
+        board.place(1, 0, 'O');
+        board.place(0, 1, 'X');
+        board.place(1, 1, 'O');
+        assertEquals(1 << 2, database.bestMoves(board), "Only completing the top row is optimal for X");
+        assertEquals(2, database.bestMove(board));
+    }
+
+    @Test
+    void bestMove_shouldReturnMinusOneWhenGameIsOver() {
+        Board board = new Board();
+        board.place(0, 0, 'X');
+        board.place(1, 0, 'O');
+        board.place(0, 1, 'X');
+        board.place(1, 1, 'O');
+        board.place(0, 2, 'X');
+        assertEquals(-1, database.bestMove(board), "No move should be offered after X wins");
+    }
+
+    @Test
+    void score_shouldRejectUnreachablePosition() {
+        Board board = new Board();
+        board.place(0, 0, 'O');
+        assertFalse(database.contains(board), "O cannot move first");
+        assertThrows(IllegalArgumentException.class, () -> database.score(board));
+    }
+
+    @Test
+    void open_shouldRejectForeignFile() throws IOException {
+        Path file = Files.write(tempDir.resolve("garbage.bin"), new byte[]{1, 2, 3});
+        assertThrows(IllegalStateException.class, () -> PositionDatabase.open(file));
+    }
+}
@@ -0,0 +1,114 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PositionStoreTest {
+
+    @TempDir
+    Path dir;
+
+    // Appends every 3x3 position: all 3^9 cell assignments, in base-3 order.
+    private static void appendAll(PositionStore store) {
+        for (int code = 0; code < PositionDatabase.POSITIONS; code++) {
+            int xMask = 0;
+            int oMask = 0;
+            int rest = code;
+            for (int cell = 0; cell < 9; cell++, rest /= 3) {
+                xMask |= rest % 3 == 1 ? 1 << cell : 0;
+                oMask |= rest % 3 == 2 ? 1 << cell : 0;
+            }
+            store.append(xMask, oMask);
+        }
+    }
+
+    @Test
+    void append_shouldGrowAndKeepEveryPosition() {
+        try (PositionStore store = new PositionStore(4)) {
+            appendAll(store);
+            assertEquals(PositionDatabase.POSITIONS, store.size());
+            for (int i = 0; i < PositionDatabase.POSITIONS; i++) {
+                assertEquals(i, store.code(i));
+                assertEquals(i, PositionDatabase.index(store.xMask(i), store.oMask(i)));
+            }
+        }
+    }
+
+    @Test
+    void get_shouldRebuildTheBoard() {
+        Board board = new Board();
+        board.place(0, 0, 'X');
+        board.place(1, 1, 'O');
+        board.place(2, 1, 'X');
+        try (PositionStore store = new PositionStore()) {
+            long index = store.append(board);
+            Board copy = store.get(index);
+            assertEquals(board.getXMask(), copy.getXMask());
+            assertEquals(board.getOMask(), copy.getOMask());
+            assertThrows(IndexOutOfBoundsException.class, () -> store.get(index + 1));
+        }
+    }
+
+    @Test
+    void append_shouldRejectPositionsOffTheClassicBoard() {
+        try (PositionStore store = new PositionStore()) {
+            assertThrows(IllegalArgumentException.class, () -> store.append(new Board(4, 3)));
+            assertThrows(IllegalArgumentException.class, () -> store.append(1, 1));
+            assertThrows(IllegalArgumentException.class, () -> store.append(1 << 9, 0));
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void scan_shouldMatchASequentialCount() {
+        try (PositionStore store = new PositionStore(); ForkJoinPool pool = new ForkJoinPool(4)) {
+            for (int i = 0; i < 10; i++) {
+                appendAll(store);
+            }
+            long expected = 0;
+            for (long i = 0; i < store.size(); i++) {
+                expected += Board.hasLine(store.xMask(i)) ? 1 : 0;
+            }
+            long xLines = store.scan((index, xMask, oMask) -> Board.hasLine(xMask) ? 1 : 0, pool);
+            assertEquals(expected, xLines);
+            assertTrue(xLines > 0);
+            assertEquals(store.size() * (store.size() - 1) / 2, store.scan((index, xMask, oMask) -> index));
+        }
+    }
+
+    @Test
+    void save_shouldRoundTripThroughAFile() {
+        Path file = dir.resolve("positions.bin");
+        try (PositionStore store = new PositionStore()) {
+            appendAll(store);
+            store.save(file);
+        }
+        try (PositionStore loaded = PositionStore.load(file)) {
+            assertEquals(PositionDatabase.POSITIONS, loaded.size());
+            assertEquals(12345, loaded.code(12345));
+            loaded.append(0b111, 0);
+            assertEquals(PositionDatabase.POSITIONS + 1, loaded.size());
+        }
+    }
+
+    @Test
+    void load_shouldRejectOtherFiles() throws IOException {
+        Path file = Files.write(dir.resolve("junk.bin"), new byte[]{1, 2, 3});
+        assertThrows(IllegalStateException.class, () -> PositionStore.load(file));
+    }
+
+    @Test
+    void close_shouldReleaseTheMemory() {
+        PositionStore store = new PositionStore();
+        store.append(1, 2);
+        store.close();
+        assertThrows(IllegalStateException.class, () -> store.code(0));
+    }
+}
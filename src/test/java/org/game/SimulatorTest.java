@@ -0,0 +1,54 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulatorTest {
+
+    @Test
+    void run_shouldPlayRequestedNumberOfGames() {
+        Simulator simulator = new Simulator(RandomStrategy::new, RandomStrategy::new);
+        Simulator.Result result;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            result = simulator.run(50_000, pool);
+        }
+        assertEquals(50_000, result.games(), "Every requested game should be counted once");
+        assertTrue(result.xWins() > result.oWins(), "X moves first and should win more random games");
+    }
+
+    @Test
+    void run_shouldDrawEveryGameWithPerfectPlay() {
+        Solver solver = new Solver();
+        Simulator simulator = new Simulator(() -> solver::bestMove, () -> solver::bestMove);
+        Simulator.Result result = simulator.run(1_000);
+        assertEquals(1_000, result.draws(), "Perfect play on both sides should always draw");
+    }
+
+    @Test
+    void run_shouldPlayOnConfiguredBoardSize() {
+        Simulator simulator = new Simulator(15, 5, RandomStrategy::new, RandomStrategy::new);
+        Simulator.Result result = simulator.run(200);
+        assertEquals(200, result.games(), "Every requested gomoku game should be counted once");
+    }
+
+    @Test
+    void run_shouldRejectIllegalStrategyMoves() {
+        Simulator simulator = new Simulator(() -> (board, marker) -> 0, RandomStrategy::new);
+        assertThrows(IllegalStateException.class, () -> simulator.run(10));
+    }
+
+    @Test
+    void randomStrategy_shouldOnlyChooseEmptyCells() {
+        Board board = new Board();
+        board.place(0, 0, 'X');
+        board.place(1, 1, 'O');
+        RandomStrategy strategy = new RandomStrategy();
+        for (int i = 0; i < 1_000; i++) {
+            int cell = strategy.chooseMove(board, 'X');
+            assertTrue(board.isCellEmpty(cell / 3, cell % 3), "Random strategy chose occupied cell " + cell);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverTest {
+
+    private Solver solver;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        solver = new Solver();
+        board = new Board();
+    }
+
+    @Test
+    void evaluate_shouldReturnDrawForEmptyBoard() {
+        assertEquals(0, solver.evaluate(board, 'X'), "Perfect play from an empty board should be a draw");
+    }
+
+    @Test
+    void bestMove_shouldTakeImmediateWin() {
+        board.place(0, 0, 'X');
+        board.place(1, 0, 'O');
+        board.place(0, 1, 'X');
+        board.place(1, 1, 'O');
+        assertEquals(2, solver.bestMove(board, 'X'), "X should complete the top row at (0,2)");
+    }
+
+    @Test
+    void bestMove_shouldReportDecidedGameForEitherSide() {
+        // X has the top row and, by the position alone, X is to move again.
+        board.place(0, 0, 'X');
+        board.place(1, 0, 'O');
+        board.place(0, 1, 'X');
+        board.place(1, 1, 'O');
+        board.place(0, 2, 'X');
+        assertEquals(-1, solver.bestMove(board, 'X'));
+        assertEquals(-1, solver.bestMove(board, 'O'));
+        assertTrue(solver.evaluate(board, 'X') > 0, "X has already won");
+        assertTrue(solver.evaluate(board, 'O') < 0, "O has already lost");
+    }
+
+    @Test
+    void bestMove_shouldBlockOpponentWin() {
+        board.place(0, 0, 'X');
+        board.place(1, 1, 'O');
+        board.place(0, 1, 'X');
+        assertEquals(2, solver.bestMove(board, 'O'), "O should block the top row at (0,2)");
+    }
+
+    @Test
+    void bestMove_shouldMapMovesBackThroughSymmetries() {
+        // Same threat as above, rotated: X on the right column, O must block (2,2).
+        board.place(0, 2, 'X');
+        board.place(1, 1, 'O');
+        board.place(1, 2, 'X');
+        assertEquals(8, solver.bestMove(board, 'O'), "O should block the right column at (2,2)");
+    }
+
+    @Test
+    void bestMove_shouldReturnMinusOneWhenGameIsOver() {
+        board.place(0, 0, 'X');
+        board.place(0, 1, 'X');
+        board.place(0, 2, 'X');
+        assertEquals(-1, solver.bestMove(board, 'O'), "No move should be returned once the game is won");
+    }
+
+    @Test
+    void selfPlay_shouldEndInDraw() {
+        char marker = 'X';
+        while (!board.isFull() && !board.hasThreeInRow('X') && !board.hasThreeInRow('O')) {
+            int move = solver.bestMove(board, marker);
+            board.place(move / 3, move % 3, marker);
+            marker = marker == 'X' ? 'O' : 'X';
+        }
+        assertFalse(board.hasThreeInRow('X'), "X should not win against perfect play");
+        assertFalse(board.hasThreeInRow('O'), "O should not win against perfect play");
+    }
+}
@@ -0,0 +1,107 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymmetryTest {
+
+    // A random position: each cell X, O or empty with equal chance.
+    private static int[] randomPosition(SplittableRandom random, int cells) {
+        int x = 0;
+        int o = 0;
+        for (int c = 0; c < cells; c++) {
+            switch (random.nextInt(3)) {
+                case 0 -> x |= 1 << c;
+                case 1 -> o |= 1 << c;
+                default -> {
+                }
+            }
+        }
+        return new int[]{x, o};
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 5})
+    void canonicalize_shouldAgreeAcrossAllTransforms(int size) {
+        Symmetry symmetry = Symmetry.forSize(size);
+        SplittableRandom random = new SplittableRandom(size);
+        for (int i = 0; i < 500; i++) {
+            int[] position = randomPosition(random, size * size);
+            long key = Symmetry.key(symmetry.canonicalize(position[0], position[1]));
+            for (int t = 0; t < Symmetry.TRANSFORMS; t++) {
+                long other = symmetry.canonicalize(symmetry.transformMask(t, position[0]), symmetry.transformMask(t, position[1]));
+                assertEquals(key, Symmetry.key(other), "Transform " + t + " should have the same canonical key");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 4, 5})
+    void canonicalize_shouldReportTheTransformThatProducesTheKey(int size) {
+        Symmetry symmetry = Symmetry.forSize(size);
+        int cells = size * size;
+        SplittableRandom random = new SplittableRandom(size * 31L);
+        for (int i = 0; i < 500; i++) {
+            int[] position = randomPosition(random, cells);
+            long canonical = symmetry.canonicalize(position[0], position[1]);
+            int t = Symmetry.transform(canonical);
+            long expected = (long) symmetry.transformMask(t, position[0]) << cells | symmetry.transformMask(t, position[1]);
+            assertEquals(expected, Symmetry.key(canonical));
+            for (int other = 0; other < Symmetry.TRANSFORMS; other++) {
+                long key = (long) symmetry.transformMask(other, position[0]) << cells | symmetry.transformMask(other, position[1]);
+                assertTrue(key >= Symmetry.key(canonical), "Canonical key should be the smallest");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 4, 5})
+    void toOriginal_shouldUndoToCanonical(int size) {
+        Symmetry symmetry = Symmetry.forSize(size);
+        for (int t = 0; t < Symmetry.TRANSFORMS; t++) {
+            for (int cell = 0; cell < size * size; cell++) {
+                int moved = symmetry.toCanonical(t, cell);
+                assertEquals(1 << moved, symmetry.transformMask(t, 1 << cell));
+                assertEquals(cell, symmetry.toOriginal(t, moved));
+                assertEquals(t, Symmetry.inverse(Symmetry.inverse(t)));
+            }
+        }
+    }
+
+    @Test
+    void canonicalize_shouldMapMovesBackToTheBoard() {
+        // X in the bottom right corner: the canonical form puts it somewhere else.
+        Board board = new Board(4, 3);
+        board.place(3, 3, 'X');
+        board.place(2, 1, 'O');
+        Symmetry symmetry = Symmetry.forSize(4);
+        long canonical = symmetry.canonicalize(board);
+        int t = Symmetry.transform(canonical);
+        int xCanonical = Long.numberOfTrailingZeros(Symmetry.key(canonical) >>> 16);
+        assertEquals(3 * 4 + 3, symmetry.toOriginal(t, xCanonical), "Canonical X should map back to (3,3)");
+    }
+
+    @Test
+    void canonicalize_shouldMatchTheSolverKeysOnTheClassicBoard() {
+        Symmetry symmetry = Symmetry.forSize(3);
+        SplittableRandom random = new SplittableRandom(9);
+        for (int i = 0; i < 500; i++) {
+            int[] position = randomPosition(random, 9);
+            long canonical = symmetry.canonicalize(position[0], position[1]);
+            assertEquals(Symmetry.canonicalKey(position[0], position[1]), Symmetry.key(canonical));
+            assertEquals(Symmetry.canonicalTransform(position[0], position[1]), Symmetry.transform(canonical));
+        }
+    }
+
+    @Test
+    void forSize_shouldRejectBoardsWithoutMasks() {
+        assertThrows(IllegalArgumentException.class, () -> Symmetry.forSize(6));
+        assertThrows(IllegalArgumentException.class, () -> Symmetry.forSize(3).canonicalize(new Board(4, 3)));
+        assertSame(Symmetry.forSize(4), Symmetry.forSize(4));
+    }
+}
@@ -13,6 +13,8 @@ import java.io.PrintStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Scanner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -164,11 +166,14 @@ class TicTacToeTest {
     }
 
     @Test
-    void closeScanner_shouldCloseScanner() throws NoSuchFieldException, IllegalAccessException {
+    void closeScanner_shouldCloseScanner() throws Exception {
         // Get the scanner field using reflection
         Field scannerField = TicTacToe.class.getDeclaredField("scanner");
         scannerField.setAccessible(true); // Make the private field accessible
+        assertNull(scannerField.get(game), "Scanner should only be opened by a console read");
 
+        System.setIn(new ByteArrayInputStream("1\n".getBytes()));
+        invokePrivateMethod("getValidInput", new Class[]{String.class}, new Object[]{"Enter row (0-2): "});
         Scanner scanner = (Scanner) scannerField.get(game);
         assertNotNull(scanner, "Scanner should not be null before closing");
 
@@ -230,6 +235,26 @@ class TicTacToeTest {
         assertTrue(outputStreamCaptor.toString().contains("Invalid input. Please enter 'y' or 'n':"));
     }
 
+    @Test
+    void setInput_shouldValidateLikeTheScanner() throws Exception {
+        game.setInput(new ByteArrayInputStream("abc\n5\n2\n".getBytes()));
+        Object result = invokePrivateMethod("getValidInput", new Class[]{String.class}, new Object[]{"Enter row (0-2): "});
+        assertEquals(2, result);
+        String output = outputStreamCaptor.toString();
+        assertTrue(output.contains("Invalid input. Please enter a number."));
+        assertTrue(output.contains("Please enter a number between 0 and 2."));
+    }
+
+    @Test
+    void setInput_shouldPlayAScriptedGame() {
+        game.setInput(new ByteArrayInputStream("0 0 1 0 0 1 1 1 0 2 maybe Y 0 0 1 0 0 1 1 1 0 2 n".getBytes()));
+        game.start();
+        String output = outputStreamCaptor.toString();
+        assertEquals(2, output.split("Player X wins!", -1).length - 1, "Both scripted games should be won by X");
+        assertTrue(output.contains("Invalid input. Please enter 'y' or 'n': "));
+        assertTrue(output.contains("Thanks for playing!"));
+    }
+
     @Test
     void start_shouldHandleWinScenario() throws NoSuchFieldException, IllegalAccessException {
         // Simulate moves for X to win: (0,0), (1,0), (0,1), (1,1), (0,2)
@@ -328,4 +353,88 @@ class TicTacToeTest {
         // Verify final message
         assertTrue(output.contains("Thanks for playing!"), "Output should contain 'Thanks for playing!' message");
     }
-}
\ No newline at end of file
+
+    @Test
+    void makeMove_shouldRespectConfiguredBoardSize() {
+        TicTacToe large = new TicTacToe(5, 4);
+        try {
+            assertTrue(large.makeMove(4, 4), "Move should be valid on a 5x5 board");
+            assertFalse(large.makeMove(5, 0), "Move should fail outside a 5x5 board");
+            assertTrue(outputStreamCaptor.toString().contains("Please choose a row and colum between 0 and 4."));
+        } finally {
+            large.closeScanner();
+        }
+    }
+
+    @Test
+    void setRenderer_shouldRedrawOverGameMessages() {
+        TicTacToe bots = new TicTacToe(3, 3, new PerfectStrategy(), new GreedyStrategy());
+        bots.setRenderer(new BoardRenderer(outputStreamCaptor, true));
+        try {
+            bots.start();
+        } finally {
+            bots.closeScanner();
+        }
+        String output = outputStreamCaptor.toString();
+        Matcher escape = Pattern.compile("\u001B\\[(\\d+)F\u001B\\[J").matcher(output);
+        // Each redraw moves up over everything printed since the previous board began.
+        int frameStart = output.indexOf("\nCurrent board state: ");
+        int redraws = 0;
+        while (escape.find()) {
+            long lines = output.substring(frameStart, escape.start()).chars().filter(c -> c == '\n').count();
+            assertEquals(lines, Long.parseLong(escape.group(1)), "Redraw " + redraws + " should cover the messages too");
+            frameStart = escape.end();
+            redraws++;
+        }
+        assertTrue(redraws > 0);
+        assertTrue(output.startsWith("TicTacToe game started!\n"), "Text before the first board stays");
+        assertTrue(output.endsWith("Thanks for playing!\n"));
+    }
+
+    @Test
+    void start_shouldPlayBotsWithoutConsoleInput() {
+        TicTacToe bots = new TicTacToe(3, 3, new PerfectStrategy(), new GreedyStrategy());
+        try {
+            bots.start();
+        } finally {
+            bots.closeScanner();
+        }
+        String output = outputStreamCaptor.toString();
+        assertFalse(output.contains("enter your move"), "Bots should not be prompted for input");
+        assertFalse(output.contains("Do you want to play again?"), "Bot games should not ask to play again");
+        assertTrue(output.contains("Thanks for playing!"));
+    }
+
+    @Test
+    void start_shouldNotOpenConsoleForSilentBotGames() throws Exception {
+        TicTacToe bots = new TicTacToe(3, 3, new PerfectStrategy(), new GreedyStrategy());
+        bots.setRenderer(new BoardRenderer(BoardRenderer.NO_OP));
+        bots.start();
+
+        Field scannerField = TicTacToe.class.getDeclaredField("scanner");
+        scannerField.setAccessible(true);
+        assertNull(scannerField.get(bots), "Bot games should not open System.in");
+        assertEquals("", outputStreamCaptor.toString(), "Silent games should not print");
+    }
+
+    @Test
+    void makeMove_shouldKeepEngineStatusInStep() {
+        game.setRenderer(new BoardRenderer(BoardRenderer.NO_OP));
+        game.makeMove(0, 0);
+        game.switchCurrentPlayer();
+        game.makeMove(1, 0);
+        game.switchCurrentPlayer();
+        game.makeMove(0, 1);
+        game.switchCurrentPlayer();
+        game.makeMove(1, 1);
+        game.switchCurrentPlayer();
+        assertTrue(game.makeMove(0, 2), "X completes the top row");
+        assertTrue(game.hasWinner());
+        assertFalse(game.makeMove(2, 2), "The engine should know the game is over");
+
+        game.reset();
+        assertEquals(0, game.getBoard().getFilledCount());
+        assertTrue(game.makeMove(2, 2), "Reset should start a new game through the engine");
+        assertEquals('X', game.getBoard().getCell(2, 2));
+    }
+}
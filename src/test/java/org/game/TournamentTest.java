@@ -0,0 +1,130 @@
+package org.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    private static List<Tournament.Entrant> field() {
+        return List.of(
+                new Tournament.Entrant("random", RandomStrategy::new),
+                new Tournament.Entrant("greedy", GreedyStrategy::new),
+                new Tournament.Entrant("perfect", PerfectStrategy::new));
+    }
+
+    @Test
+    void roundRobin_shouldRankStrongerStrategiesHigher() {
+        Tournament tournament = new Tournament(field());
+        tournament.run(Tournament.Schedule.ROUND_ROBIN, 5, 2_000);
+
+        List<Tournament.Standing> standings = tournament.getStandings();
+        assertEquals("random", standings.get(2).name(), "Random play should rank last");
+        assertTrue(standings.get(2).rating() < Tournament.INITIAL_RATING);
+        Tournament.Standing perfect = standings.stream().filter(s -> s.name().equals("perfect")).findFirst().orElseThrow();
+        assertEquals(0, perfect.losses(), "Perfect play never loses");
+        for (Tournament.Standing standing : standings) {
+            assertEquals(5 * 2 * 2_000, standing.games(), "Each entrant plays two pairings per round");
+        }
+        double total = standings.stream().mapToDouble(Tournament.Standing::rating).sum();
+        assertEquals(3 * Tournament.INITIAL_RATING, total, 1e-6, "Elo updates are zero-sum");
+    }
+
+    @Test
+    void ratings_shouldSeparateDominantPlayerFromInitialRating() {
+        Tournament tournament = new Tournament(List.of(
+                new Tournament.Entrant("random", RandomStrategy::new),
+                new Tournament.Entrant("perfect", PerfectStrategy::new)));
+        tournament.run(Tournament.Schedule.ROUND_ROBIN, 1, 500);
+
+        Tournament.Standing perfect = tournament.getStandings().get(0);
+        Tournament.Standing random = tournament.getStandings().get(1);
+        assertEquals("perfect", perfect.name());
+        assertTrue(perfect.score() > 0.8, "Perfect play should dominate random play: " + perfect.score());
+        // A single K = 32 update per pairing could move each rating by at most 32 points.
+        assertTrue(perfect.rating() > Tournament.INITIAL_RATING + 150, "Rating: " + perfect.rating());
+        assertTrue(random.rating() < Tournament.INITIAL_RATING - 150, "Rating: " + random.rating());
+    }
+
+    @Test
+    void pairings_shouldAlternateStartingPlayer() {
+        Tournament tournament = new Tournament(List.of(
+                new Tournament.Entrant("a", RandomStrategy::new),
+                new Tournament.Entrant("b", RandomStrategy::new)));
+        tournament.run(Tournament.Schedule.ROUND_ROBIN, 1, 200_000);
+
+        // X wins far more often than O between random players; alternating sides evens it out.
+        Tournament.Standing first = tournament.getStandings().get(0);
+        Tournament.Standing second = tournament.getStandings().get(1);
+        assertEquals(first.wins(), second.losses());
+        assertEquals(0.5, first.score(), 0.01, "Evenly matched entrants should score about half");
+    }
+
+    @Test
+    void swiss_shouldPairEveryoneEachRoundWithByeForOddField() {
+        Tournament tournament = new Tournament(List.of(
+                new Tournament.Entrant("r1", RandomStrategy::new),
+                new Tournament.Entrant("r2", RandomStrategy::new),
+                new Tournament.Entrant("r3", RandomStrategy::new),
+                new Tournament.Entrant("r4", RandomStrategy::new),
+                new Tournament.Entrant("greedy", GreedyStrategy::new)));
+        tournament.run(Tournament.Schedule.SWISS, 3, 100);
+
+        long totalGames = tournament.getStandings().stream().mapToLong(Tournament.Standing::games).sum();
+        assertEquals(3 * 2 * 2 * 100, totalGames, "Two pairings of two entrants per round with one bye");
+    }
+
+    @Test
+    void expectedScore_shouldFollowEloCurve() {
+        assertEquals(0.5, Tournament.expectedScore(1500, 1500), 1e-9);
+        assertEquals(1 / 11.0, Tournament.expectedScore(1500, 1900), 1e-9);
+    }
+
+    @Test
+    void writeTable_shouldListEntrantsByRank() {
+        Tournament tournament = new Tournament(field());
+        tournament.run(Tournament.Schedule.ROUND_ROBIN, 1, 100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        tournament.writeTable(new PrintStream(out, true));
+
+        String[] lines = out.toString().split("\\R");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].contains("Elo"));
+        assertTrue(lines[1].startsWith("1 "), lines[1]);
+        assertTrue(lines[3].startsWith("3 ") && lines[3].contains("random"), lines[3]);
+    }
+
+    @Test
+    void ratings_shouldConvergeToGapImpliedByScore() {
+        Tournament tournament = new Tournament(List.of(
+                new Tournament.Entrant("random", RandomStrategy::new),
+                new Tournament.Entrant("perfect", PerfectStrategy::new)));
+        tournament.run(Tournament.Schedule.ROUND_ROBIN, 1, 20_000);
+
+        Tournament.Standing perfect = tournament.getStandings().get(0);
+        Tournament.Standing random = tournament.getStandings().get(1);
+        double gap = perfect.rating() - random.rating();
+        assertEquals(Tournament.gapFor(perfect.score()), gap, 1e-6, "A long match settles at the gap its score implies");
+        assertTrue(gap <= Tournament.MAX_GAP);
+        assertEquals(2 * Tournament.INITIAL_RATING, perfect.rating() + random.rating(), 1e-6);
+    }
+
+    @Test
+    void gapFor_shouldInvertExpectedScore() {
+        assertEquals(0, Tournament.gapFor(0.5), 1e-9);
+        assertEquals(400, Tournament.gapFor(Tournament.expectedScore(1900, 1500)), 1e-6);
+        assertEquals(-400, Tournament.gapFor(Tournament.expectedScore(1500, 1900)), 1e-6);
+        assertEquals(Tournament.MAX_GAP, Tournament.gapFor(1), 1e-9);
+        assertEquals(-Tournament.MAX_GAP, Tournament.gapFor(0), 1e-9);
+    }
+
+    @Test
+    void constructor_shouldRequireTwoEntrants() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(List.of(new Tournament.Entrant("alone", RandomStrategy::new))));
+    }
+}